@@ -0,0 +1,160 @@
+// java/api/async/AsyncDispatcher.java
+package api.async;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import config.Env;
+
+/**
+ * Utility class to serve API requests asynchronously, so slow clients and
+ * database work never hold a container thread:
+ *
+ * <ol>
+ *   <li> The request body is read with a non-blocking {@code ReadListener}
+ *   <li> The handler runs on a bounded worker pool, against the buffered body,
+ *        writing to a buffered response
+ *   <li> The response is sent with a non-blocking {@code WriteListener}
+ * </ol>
+ *
+ * Disabled unless {@code ASYNC_REQUESTS=true}. Requests beyond the pool's
+ * queue are turned away with {@code 503 Service Unavailable}.
+ *
+ * <ul>
+ *   <li> Check whether enabled via {@link #isEnabled()}
+ *   <li> Serve a request via {@link #dispatch(HttpServletRequest, Task)}
+ *   <li> Stop the worker pool via {@link #shutdown()}
+ * </ul>
+ */
+public class AsyncDispatcher {
+
+    /**
+     * Request handling run on a worker thread. Reads the buffered request
+     * body and writes to a buffered response.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void handle(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException;
+    }
+
+    // --- Constants ---
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_QUEUE = 256;
+    private static final long DEFAULT_TIMEOUT_MS = 30_000;
+    private static final long DEFAULT_MAX_BODY = 16L * 1024 * 1024;
+
+    static final long TIMEOUT_MS = readLong("ASYNC_TIMEOUT_MS", DEFAULT_TIMEOUT_MS);
+    static final long MAX_BODY = readLong("ASYNC_MAX_BODY_BYTES", DEFAULT_MAX_BODY);
+    private static final boolean ENABLED = "true".equalsIgnoreCase(trimmed(Env.get("ASYNC_REQUESTS")));
+
+    // --- Attributes ---
+    // Created on first dispatch, so disabled deployments start no threads
+    private static volatile ThreadPoolExecutor workers;
+
+    // Private Constructor (disallow instantiation)
+    private AsyncDispatcher() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * @return true if API requests should be served asynchronously
+     */
+    public static boolean isEnabled() { return ENABLED; }
+
+    /**
+     * Put a request into asynchronous mode and serve it via {@code task}.
+     * Returns immediately - the container thread is released.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param task handling run once the body has been read
+     * @throws IOException on failure to register the read listener
+     */
+    public static void dispatch(HttpServletRequest req, Task task) throws IOException {
+        AsyncContext ctx = req.startAsync();
+        ctx.setTimeout(TIMEOUT_MS);
+
+        // Filter wrappers are bypassed - the exchange buffers and compresses itself
+        AsyncExchange exchange = new AsyncExchange(
+            ctx, (HttpServletRequest) ctx.getRequest(), (HttpServletResponse) ctx.getResponse(), task
+        );
+        ctx.addListener(exchange);
+        exchange.start();
+    }
+
+    /**
+     * Stop accepting work, letting queued requests finish.
+     */
+    public static synchronized void shutdown() {
+        if (workers != null) workers.shutdown();
+    }
+
+    /* ======================================================================
+     * ---------------------------- Worker  Pool ----------------------------
+     * ====================================================================== */
+
+    /**
+     * Queue work on the bounded worker pool.
+     *
+     * @param work handling run on a worker thread
+     * @throws RejectedExecutionException if the pool and its queue are full
+     */
+    static void submit(Runnable work) {
+        ThreadPoolExecutor pool = workers;
+        if (pool == null) pool = createWorkers();
+        pool.execute(work);
+    }
+
+    /**
+     * Create the worker pool, unless already created.
+     */
+    private static synchronized ThreadPoolExecutor createWorkers() {
+        if (workers != null) return workers;
+
+        int threads = (int) Math.max(1, readLong("ASYNC_THREADS", DEFAULT_THREADS));
+        int queue = (int) Math.max(1, readLong("ASYNC_QUEUE", DEFAULT_QUEUE));
+        AtomicInteger count = new AtomicInteger();
+
+        workers = new ThreadPoolExecutor(
+            threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queue),
+            r -> {
+                Thread t = new Thread(r, "api-worker-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        return workers;
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Read a configured number, falling back to the default if unset or
+     * invalid.
+     */
+    private static long readLong(String key, long fallback) {
+        String value = trimmed(Env.get(key));
+        if (value == null || value.isEmpty()) return fallback;
+        try { return Long.parseLong(value); }
+        catch (NumberFormatException e) { return fallback; }
+    }
+
+    /**
+     * Utility method to trim a possibly null value.
+     */
+    private static String trimmed(String value) { return value == null ? null : value.trim(); }
+}
@@ -0,0 +1,240 @@
+// java/api/async/AsyncExchange.java
+package api.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.controllers.Controller;
+import api.filters.CompressionFilter;
+
+/**
+ * A single asynchronous request, from reading its body through to sending its
+ * response. Reads and writes are non-blocking, driven by container callbacks;
+ * only the handler itself runs on a worker thread.
+ *
+ * <p> Exactly one party sends the response - the handler once it returns, or
+ * whichever of a rejection, error or timeout comes first.
+ */
+class AsyncExchange implements ReadListener, WriteListener, AsyncListener {
+
+    // --- Constants ---
+    private static final int CHUNK_SIZE = 8192;
+
+    // --- Attributes ---
+    private final AsyncContext ctx;
+    private final HttpServletRequest req;
+    private final HttpServletResponse resp;
+    private final AsyncDispatcher.Task task;
+    // Set once a party has taken responsibility for the response
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private ServletInputStream in;
+    private ServletOutputStream out;
+    private byte[] body;
+    private int sent;
+
+    // Constructor
+    AsyncExchange(AsyncContext ctx, HttpServletRequest req, HttpServletResponse resp, AsyncDispatcher.Task task) {
+        this.ctx = ctx;
+        this.req = req;
+        this.resp = resp;
+        this.task = task;
+    }
+
+    /**
+     * Begin reading the request body, or run the handler straight away if
+     * there is none.
+     *
+     * @throws IOException on failure to register the read listener
+     */
+    void start() throws IOException {
+        long length = req.getContentLengthLong();
+        if (length == 0 || (length < 0 && req.getHeader("Transfer-Encoding") == null)) {
+            submit(new byte[0]);
+            return;
+        }
+        if (length > AsyncDispatcher.MAX_BODY) {
+            fail(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large");
+            return;
+        }
+
+        in = req.getInputStream();
+        in.setReadListener(this);
+    }
+
+    /* ======================================================================
+     * ---------------------------- Read Request ----------------------------
+     * ====================================================================== */
+
+    @Override
+    public void onDataAvailable() throws IOException {
+        byte[] buf = new byte[CHUNK_SIZE];
+        while (in.isReady() && !in.isFinished()) {
+            int n = in.read(buf);
+            if (n < 0) return;
+            received.write(buf, 0, n);
+
+            // Chunked bodies have no declared length to check up front
+            if (received.size() > AsyncDispatcher.MAX_BODY) {
+                fail(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large");
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onAllDataRead() {
+        if (!claimed.get()) submit(received.toByteArray());
+    }
+
+    /* ======================================================================
+     * ---------------------------- Run  Handler ----------------------------
+     * ====================================================================== */
+
+    /**
+     * Queue the handler on the worker pool, turning the request away if the
+     * pool is saturated.
+     */
+    private void submit(byte[] requestBody) {
+        try {
+            AsyncDispatcher.submit(() -> run(requestBody));
+        } catch (RejectedExecutionException e) {
+            resp.setHeader("Retry-After", "1");
+            fail(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server busy - please retry");
+        }
+    }
+
+    /**
+     * Run the handler against the buffered body, then send what it wrote.
+     * Runs on a worker thread.
+     */
+    private void run(byte[] requestBody) {
+        BufferedResponse buffered = new BufferedResponse(resp);
+        try {
+            task.handle(new BufferedRequest(req, requestBody), buffered);
+
+        } catch (Exception e) {
+            // Unaccounted for exception - reported as the container would
+            System.err.println("Unexpected error serving " + req.getRequestURI() + ": " + e);
+            try {
+                buffered.reset();
+                Controller.writeStatus(buffered, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Unexpected error");
+            } catch (IOException | IllegalStateException ignored) {}
+        }
+
+        // Only the claiming party may touch the real response
+        if (!claimed.compareAndSet(false, true)) return;
+        try {
+            buffered.applyTo(resp);
+            send(buffered.toByteArray());
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Failed to send response for " + req.getRequestURI() + ": " + e);
+            ctx.complete();
+        }
+    }
+
+    /* ======================================================================
+     * --------------------------- Write Response ---------------------------
+     * ====================================================================== */
+
+    /**
+     * Begin sending a complete body, compressed if worthwhile and acceptable.
+     */
+    private void send(byte[] bytes) throws IOException {
+        if (bytes.length >= CompressionFilter.MIN_SIZE
+            && !resp.containsHeader("Content-Encoding")
+            && CompressionFilter.acceptsGzip(req)
+        ) {
+            bytes = gzip(bytes);
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+
+        body = bytes;
+        resp.setContentLength(body.length);
+        out = resp.getOutputStream();
+        out.setWriteListener(this);
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        while (out.isReady()) {
+            if (sent == body.length) {
+                ctx.complete();
+                return;
+            }
+            int n = Math.min(CHUNK_SIZE, body.length - sent);
+            out.write(body, sent, n);
+            sent += n;
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------- Failure & Timeout --------------------------
+     * ====================================================================== */
+
+    @Override
+    public void onError(Throwable t) {
+        // Read or write failure - usually the client going away
+        claimed.set(true);
+        System.err.println("Async I/O failed for " + req.getRequestURI() + ": " + t);
+        try { ctx.complete(); }
+        catch (IllegalStateException ignored) {}
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        // Abandon a handler still running, or cut short a response still sending
+        if (!fail(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Request timed out")) ctx.complete();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) { onError(event.getThrowable()); }
+
+    @Override
+    public void onComplete(AsyncEvent event) {}
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {}
+
+    /**
+     * Answer with a short status message instead of running (or finishing)
+     * the handler, unless the response is already claimed.
+     *
+     * @return true if the message was sent, false if already claimed
+     */
+    private boolean fail(int statusCode, String message) {
+        if (!claimed.compareAndSet(false, true)) return false;
+        try {
+            Controller.writeStatus(resp, statusCode, message);
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Failed to send response for " + req.getRequestURI() + ": " + e);
+        }
+        ctx.complete();
+        return true;
+    }
+
+    /**
+     * Utility method to gzip a complete body.
+     */
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
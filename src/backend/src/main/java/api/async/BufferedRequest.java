@@ -0,0 +1,73 @@
+// java/api/async/BufferedRequest.java
+package api.async;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Request wrapper serving a body already read in full, so handlers can use
+ * plain blocking reads without ever waiting on the client.
+ */
+class BufferedRequest extends HttpServletRequestWrapper {
+
+    // --- Attributes ---
+    private final ByteArrayInputStream body;
+    private ServletInputStream stream;
+    private BufferedReader reader;
+
+    // Constructor
+    BufferedRequest(HttpServletRequest req, byte[] body) {
+        super(req);
+        this.body = new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        if (reader != null) throw new IllegalStateException("getReader() already called");
+        if (stream == null) stream = new BodyStream();
+        return stream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader != null) return reader;
+        if (stream != null) throw new IllegalStateException("getInputStream() already called");
+
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        reader = new BufferedReader(new InputStreamReader(body, charset));
+        return reader;
+    }
+
+    /**
+     * Input stream over the buffered body - always ready.
+     */
+    private class BodyStream extends ServletInputStream {
+
+        @Override
+        public int read() { return body.read(); }
+
+        @Override
+        public int read(byte[] b, int off, int len) { return body.read(b, off, len); }
+
+        @Override
+        public boolean isFinished() { return body.available() == 0; }
+
+        @Override
+        public boolean isReady() { return true; }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            throw new IllegalStateException("Request body has already been read");
+        }
+    }
+}
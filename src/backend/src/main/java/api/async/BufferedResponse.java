@@ -0,0 +1,282 @@
+// java/api/async/BufferedResponse.java
+package api.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import api.controllers.Controller;
+
+/**
+ * Response wrapper holding the whole response in memory, so handlers never
+ * block on a slow client. Status, headers, cookies, content type and body are
+ * all buffered; nothing touches the real response until {@link AsyncExchange}
+ * has claimed it and calls {@link #applyTo(HttpServletResponse)}.
+ *
+ * <p> A handler abandoned by a timeout may keep writing here while the real
+ * response is completed by someone else - so it must never write through.
+ */
+class BufferedResponse extends HttpServletResponseWrapper {
+
+    // --- Attributes ---
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final List<Cookie> cookies = new ArrayList<>();
+    private int status = HttpServletResponse.SC_OK;
+    private String contentType;
+    private String characterEncoding;
+    private ServletOutputStream stream;
+    private PrintWriter writer;
+
+    // Constructor
+    BufferedResponse(HttpServletResponse resp) { super(resp); }
+
+    /**
+     * Copy the buffered status, headers, cookies and content type onto the
+     * real response. The body is sent separately.
+     *
+     * @param resp response claimed for sending
+     */
+    void applyTo(HttpServletResponse resp) {
+        resp.setStatus(status);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            List<String> values = header.getValue();
+            resp.setHeader(header.getKey(), values.get(0));
+            for (int i = 1; i < values.size(); i++) { resp.addHeader(header.getKey(), values.get(i)); }
+        }
+        for (Cookie cookie : cookies) { resp.addCookie(cookie); }
+        if (contentType != null) resp.setContentType(contentType);
+        if (characterEncoding != null) resp.setCharacterEncoding(characterEncoding);
+    }
+
+    /**
+     * @return the complete body written by the handler
+     */
+    byte[] toByteArray() {
+        if (writer != null) writer.flush();
+        return body.toByteArray();
+    }
+
+    /* ======================================================================
+     * ------------------------- Status  Overrides --------------------------
+     * ====================================================================== */
+
+    @Override
+    public void setStatus(int sc) { this.status = sc; }
+    @Override
+    public int getStatus() { return status; }
+
+    @Override
+    public void sendError(int sc) throws IOException { sendError(sc, "Request failed"); }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        reset();
+        Controller.writeStatus(this, sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) { sendRedirect(location, SC_FOUND, true); }
+    @Override
+    public void sendRedirect(String location, int sc) { sendRedirect(location, sc, true); }
+    @Override
+    public void sendRedirect(String location, boolean clearBuffer) { sendRedirect(location, SC_FOUND, clearBuffer); }
+
+    @Override
+    public void sendRedirect(String location, int sc, boolean clearBuffer) {
+        if (clearBuffer) resetBuffer();
+        setStatus(sc);
+        setHeader("Location", location);
+    }
+
+    /* ======================================================================
+     * ------------------------- Header  Overrides --------------------------
+     * ====================================================================== */
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (special(name, value)) return;
+        if (value == null) headers.remove(name);
+        else headers.put(name, new ArrayList<>(List.of(value)));
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (value == null || special(name, value)) return;
+        headers.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) { setHeader(name, Integer.toString(value)); }
+    @Override
+    public void addIntHeader(String name, int value) { addHeader(name, Integer.toString(value)); }
+    @Override
+    public void setDateHeader(String name, long date) { setHeader(name, httpDate(date)); }
+    @Override
+    public void addDateHeader(String name, long date) { addHeader(name, httpDate(date)); }
+
+    // Headers already set by filters on the real response still count
+    @Override
+    public boolean containsHeader(String name) { return headers.containsKey(name) || super.containsHeader(name); }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values != null ? values.get(0) : super.getHeader(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values != null ? List.copyOf(values) : super.getHeaders(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(super.getHeaderNames());
+        names.addAll(headers.keySet());
+        return names;
+    }
+
+    @Override
+    public void addCookie(Cookie cookie) { cookies.add(cookie); }
+
+    /* ======================================================================
+     * ------------------------- Content Overrides --------------------------
+     * ====================================================================== */
+
+    @Override
+    public void setContentType(String type) {
+        this.contentType = type;
+        if (type == null || writer != null) return;
+
+        // A charset parameter also sets the encoding
+        int i = type.toLowerCase().indexOf("charset=");
+        if (i >= 0) characterEncoding = type.substring(i + "charset=".length()).split(";")[0].trim();
+    }
+
+    @Override
+    public String getContentType() { return contentType; }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        // Fixed once the writer exists, as for a real response
+        if (writer == null) this.characterEncoding = charset;
+    }
+
+    // Unless set, the real response's (configured) default applies
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding != null ? characterEncoding : super.getCharacterEncoding();
+    }
+
+    // Length is only known (and set) once the body is complete
+    @Override
+    public void setContentLength(int len) {}
+    @Override
+    public void setContentLengthLong(long len) {}
+
+    /* ======================================================================
+     * -------------------------- Body  Overrides ---------------------------
+     * ====================================================================== */
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) throw new IllegalStateException("getWriter() already called");
+        if (stream == null) stream = new BodyStream();
+        return stream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer != null) return writer;
+        if (stream != null) throw new IllegalStateException("getOutputStream() already called");
+        stream = new BodyStream();
+        writer = new PrintWriter(new OutputStreamWriter(stream, Charset.forName(getCharacterEncoding())));
+        return writer;
+    }
+
+    // Nothing is sent until the handler returns
+    @Override
+    public void flushBuffer() { if (writer != null) writer.flush(); }
+    @Override
+    public boolean isCommitted() { return false; }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        cookies.clear();
+        status = HttpServletResponse.SC_OK;
+        contentType = null;
+        characterEncoding = null;
+    }
+
+    @Override
+    public void resetBuffer() {
+        body.reset();
+        stream = null;
+        writer = null;
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to route headers with dedicated setters through them.
+     *
+     * @return true if the header was handled
+     */
+    private boolean special(String name, String value) {
+        if ("Content-Type".equalsIgnoreCase(name)) {
+            setContentType(value);
+            return true;
+        }
+        // Set from the complete body instead
+        return "Content-Length".equalsIgnoreCase(name);
+    }
+
+    /**
+     * Utility method to format a date header value.
+     */
+    private static String httpDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Output stream into the buffered body - always ready.
+     */
+    private class BodyStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) { body.write(b); }
+
+        @Override
+        public void write(byte[] b, int off, int len) { body.write(b, off, len); }
+
+        @Override
+        public boolean isReady() { return true; }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            throw new IllegalStateException("Buffered responses are written on completion");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+// java/api/async/EventStream.java
+package api.async;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A long-lived Server-Sent Events ({@code text/event-stream}) response. Holds
+ * no thread while open: events are queued from any thread and written with a
+ * non-blocking {@code WriteListener}, bypassing any filter buffering.
+ *
+ * <p> Open streams are bounded, as is each stream's queue - a client that
+ * falls too far behind is disconnected, to resume via {@code Last-Event-ID}.
+ * Idle streams are sent a comment periodically, keeping proxies from timing
+ * them out and revealing clients that have gone away.
+ *
+ * <ul>
+ *   <li> Open a stream via {@link #open(HttpServletRequest)}
+ *   <li> Send events via {@link #send(String, String, String)}
+ *   <li> Observe closure via {@link #onClose(Runnable)}
+ *   <li> Stop the heartbeat and close all streams via {@link #shutdown()}
+ * </ul>
+ */
+public class EventStream implements WriteListener, AsyncListener {
+
+    // --- Constants ---
+    private static final int MAX_STREAMS = 1000;
+    // Events queued unsent before a stream is closed as too slow
+    public static final int MAX_PENDING = 256;
+    private static final long HEARTBEAT_SECONDS = 25;
+    // Client reconnection delay advertised to browsers
+    private static final long RETRY_MS = 5000;
+    private static final byte[] HEARTBEAT = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+
+    // --- Attributes ---
+    private static final Set<EventStream> streams = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger opened = new AtomicInteger();
+    private static ScheduledExecutorService heartbeat;
+
+    private final AsyncContext ctx;
+    private final ServletOutputStream out;
+    private final Queue<byte[]> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Runnable closeHandler;
+    // Guarded by this
+    private boolean listening;
+    private boolean unflushed;
+
+    // Private Constructor (use open())
+    private EventStream(AsyncContext ctx, ServletOutputStream out) {
+        this.ctx = ctx;
+        this.out = out;
+    }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Put a request into asynchronous mode and begin an event stream as its
+     * response. The request is never timed out - the stream stays open until
+     * either side closes it.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @return open stream, or null if too many streams are already open
+     * @throws IOException on failure to access the response
+     */
+    public static EventStream open(HttpServletRequest req) throws IOException {
+        if (opened.incrementAndGet() > MAX_STREAMS) {
+            opened.decrementAndGet();
+            return null;
+        }
+
+        AsyncContext ctx = req.startAsync();
+        ctx.setTimeout(0);
+
+        // Filter wrappers are bypassed - events must not be held back
+        HttpServletResponse resp = (HttpServletResponse) ctx.getResponse();
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType("text/event-stream");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("Cache-Control", "no-store");
+        resp.setHeader("X-Accel-Buffering", "no");
+
+        EventStream stream = new EventStream(ctx, resp.getOutputStream());
+        streams.add(stream);
+        ctx.addListener(stream);
+        stream.enqueue(("retry: " + RETRY_MS + "\n\n").getBytes(StandardCharsets.UTF_8));
+        stream.out.setWriteListener(stream);
+        startHeartbeat();
+        return stream;
+    }
+
+    /**
+     * Queue an event. Has no effect once the stream is closed.
+     *
+     * @param id event ID the client resumes from, or null for none
+     * @param event event name, or null for the default ({@code message})
+     * @param data event payload - may span lines
+     */
+    public void send(String id, String event, String data) {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) sb.append("id: ").append(id).append('\n');
+        if (event != null) sb.append("event: ").append(event).append('\n');
+        for (String line : data.split("\n", -1)) { sb.append("data: ").append(line).append('\n'); }
+        sb.append('\n');
+        enqueue(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Register a callback run once when the stream closes - immediately if it
+     * already has.
+     *
+     * @param handler callback run on closure
+     */
+    public void onClose(Runnable handler) {
+        closeHandler = handler;
+        if (closed.get()) handler.run();
+    }
+
+    /**
+     * @return true once the stream is closed
+     */
+    public boolean isClosed() { return closed.get(); }
+
+    /**
+     * Close the stream, completing the response.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        streams.remove(this);
+        opened.decrementAndGet();
+        pending.clear();
+
+        Runnable handler = closeHandler;
+        if (handler != null) handler.run();
+        try { ctx.complete(); }
+        catch (IllegalStateException ignored) {}
+    }
+
+    /**
+     * Stop pinging and close every open stream, completing their responses.
+     */
+    public static synchronized void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+            heartbeat = null;
+        }
+        for (EventStream stream : streams) { stream.close(); }
+    }
+
+    /* ======================================================================
+     * ------------------------------- Writing ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Queue bytes and write whatever the connection will take without
+     * blocking. Disconnects a client that has fallen too far behind.
+     */
+    private void enqueue(byte[] bytes) {
+        if (closed.get()) return;
+        if (pendingCount.incrementAndGet() > MAX_PENDING) {
+            close();
+            return;
+        }
+        pending.add(bytes);
+        drain();
+    }
+
+    /**
+     * Write queued bytes while the connection is ready, flushing once the
+     * queue is empty. If it stops being ready, {@link #onWritePossible()} is
+     * called once it is again.
+     */
+    private synchronized void drain() {
+        if (!listening || closed.get()) return;
+        try {
+            while (out.isReady()) {
+                byte[] next = pending.poll();
+                if (next == null) {
+                    if (!unflushed) return;
+                    unflushed = false;
+                    out.flush();
+                    continue;
+                }
+                pendingCount.decrementAndGet();
+                out.write(next);
+                unflushed = true;
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    @Override
+    public void onWritePossible() {
+        synchronized (this) { listening = true; }
+        drain();
+    }
+
+    /* ======================================================================
+     * ------------------------ Lifecycle  Callbacks ------------------------
+     * ====================================================================== */
+
+    @Override
+    public void onError(Throwable t) { close(); }
+
+    @Override
+    public void onComplete(AsyncEvent event) { close(); }
+
+    @Override
+    public void onTimeout(AsyncEvent event) { close(); }
+
+    @Override
+    public void onError(AsyncEvent event) { close(); }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {}
+
+    /* ======================================================================
+     * ------------------------------ Heartbeat -----------------------------
+     * ====================================================================== */
+
+    /**
+     * Start pinging open streams, unless already started.
+     */
+    private static synchronized void startHeartbeat() {
+        if (heartbeat != null) return;
+        heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "event-stream-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeat.scheduleAtFixedRate(
+            () -> streams.forEach(stream -> stream.enqueue(HEARTBEAT)),
+            HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS
+        );
+    }
+}
@@ -0,0 +1,106 @@
+// java/api/cache/ResponseCache.java
+package api.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.stream.JsonWriter;
+
+import api.filters.CompressionFilter;
+import api.json.CborWriter;
+import api.json.FieldFilterWriter;
+import api.json.JsonUtils;
+import api.utils.MediaType;
+
+/**
+ * Utility class caching serialised responses for immutable content, such as
+ * the list views of a catalog snapshot. Entries are kept per {@link MediaType},
+ * each holding both the plain and gzip encoded bytes, so neither serialisation
+ * nor compression is repeated per request.
+ *
+ * <p> Entries are tied to the identity of the object serialised - once a new
+ * object is served under the same key, the entry is rebuilt. Entries may
+ * also be limited to a sparse fieldset.
+ */
+public class ResponseCache {
+
+    /**
+     * A cached response body in each supported encoding.
+     *
+     * @param source object serialised (compared by identity)
+     * @param identity encoded body (json as UTF-8)
+     * @param gzip encoded body, gzip compressed - or null if smaller than
+     *        {@link CompressionFilter#MIN_SIZE}, so never sent compressed
+     */
+    public record Entry(Object source, byte[] identity, byte[] gzip) { }
+
+    // --- Constants ---
+    // Fieldsets are client chosen - bound the number of variants held
+    private static final int MAX_ENTRIES = 512;
+
+    // --- Attributes ---
+    private static final Map<String, Entry> CACHE = new ConcurrentHashMap<>();
+
+    // Private Constructor (disallow instantiation)
+    private ResponseCache() {}
+
+    /**
+     * Retrieve the cached response for {@code source}, serialising and
+     * compressing it if not already cached.
+     *
+     * @param key name the response is cached under (e.g. the endpoint)
+     * @param type encoding of the response body
+     * @param fields sorted record members kept, or null for all
+     * @param source immutable object serialised as the response body
+     * @return cached Entry for {@code source}
+     */
+    public static Entry get(String key, MediaType type, Set<String> fields, Object source) {
+        String cacheKey = key + ";" + type + (fields == null ? "" : ";" + String.join(",", fields));
+        Entry entry = CACHE.get(cacheKey);
+        if (entry != null && entry.source() == source) return entry;
+
+        byte[] body = serialise(source, type, fields);
+        entry = new Entry(source, body, body.length >= CompressionFilter.MIN_SIZE ? gzip(body) : null);
+        if (CACHE.size() >= MAX_ENTRIES) CACHE.clear();
+        CACHE.put(cacheKey, entry);
+        return entry;
+    }
+
+    /**
+     * Utility method to stream an object straight into encoded bytes.
+     */
+    private static byte[] serialise(Object source, MediaType type, Set<String> fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            JsonWriter jsonWriter = type == MediaType.CBOR ? new CborWriter(out) : JsonUtils.newJsonWriter(writer);
+            if (fields != null) jsonWriter = new FieldFilterWriter(jsonWriter, fields);
+            JsonUtils.write(source, jsonWriter);
+        } catch (IOException e) {
+            // Not thrown by in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Utility method to gzip compress a byte array.
+     */
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // Not thrown by in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -7,8 +7,8 @@ import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import api.json.JsonUtils;
-import api.utils.NumberUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
 import domain.modifiers.AbilityScoreModifier;
 import services.AsmService;
 
@@ -19,31 +19,39 @@ import services.AsmService;
 public class AsmController extends Controller {
 
     @Override
-    protected void handleGet(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setContentType("application/json");
-
-        // Convert retrieved data into a Json text
-        String json;
-
-        // Identify endpoint
-        if (parts.length > 0 && NumberUtils.isLong(parts[0])) {
-            // Get a specific AbilityScoreModifier
-            long id = Long.parseLong(parts[0]);
-            AbilityScoreModifier asm = AsmService.getById(id);
-            json = JsonUtils.toJson(asm);
-        } else {
-            // Return all AbilityScoreModifiers
-            List<AbilityScoreModifier> asms = AsmService.getAll();
-            json = JsonUtils.toJson(asms);
-        }
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/asm", this::getAll)
+            .get("/asm/{id:long}", this::getById)
+            .post("/asm", this::create)
+            .post("/asm/bulk", this::importAll)
+            .put("/asm", this::update)
+            .delete("/asm", this::delete);
+    }
+
+    private void getAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // ?ids=1,2,3 - Return each requested entity
+        if (writeByIds(req, resp, AsmService::getAllById)) return;
 
-        resp.getWriter().write(json);
+        // Return all AbilityScoreModifiers
+        List<AbilityScoreModifier> asms = AsmService.getAll();
+        writeCached(req, resp, "asm", asms);
     }
 
-    @Override
-    protected void handlePost(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void getById(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Get a specific AbilityScoreModifier
+        AbilityScoreModifier asm = AsmService.getById(params.getLong("id"));
+        // Stream encoded body straight into the response
+        writeBody(req, resp, asm);
+    }
+
+    private void importAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Import NDJSON records in a single transaction
+        importBulk(req, resp, AbilityScoreModifier.class, AsmService.newImport());
+    }
+
+    private void create(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        AbilityScoreModifier asm = JsonUtils.fromJson(req.getReader(), AbilityScoreModifier.class);
+        AbilityScoreModifier asm = readBody(req, AbilityScoreModifier.class);
 
         // Do operation
         AsmService.OperationResult result;
@@ -65,9 +73,9 @@ public class AsmController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handlePut(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {            // Read Json input into DTO (domain object in this case)
-        AbilityScoreModifier asm = JsonUtils.fromJson(req.getReader(), AbilityScoreModifier.class);
+    private void update(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Read Json input into DTO (domain object in this case)
+        AbilityScoreModifier asm = readBody(req, AbilityScoreModifier.class);
 
         // Do operation
         AsmService.OperationResult result;
@@ -89,10 +97,9 @@ public class AsmController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handleDelete(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void delete(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        AbilityScoreModifier asm = JsonUtils.fromJson(req.getReader(), AbilityScoreModifier.class);
+        AbilityScoreModifier asm = readBody(req, AbilityScoreModifier.class);
 
         // Do operation
         AsmService.OperationResult result;
@@ -0,0 +1,45 @@
+// java/api/controllers/BundleController.java
+package api.controllers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.routing.PathParams;
+import api.routing.RouteTable;
+import services.BundleService;
+
+/**
+ * A controller combining several catalog lists into one response, e.g.
+ * {@code GET /api/bundle?include=language,feat,proficiency:skill} returns
+ * {@code {"language": [...], "feat": [...], "proficiency:skill": [...]}}.
+ * Without {@code include}, every list is returned.
+ */
+public class BundleController extends Controller {
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/bundle", this::getBundle);
+    }
+
+    private void getBundle(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String include = req.getParameter("include");
+        List<String> parts = include == null || include.isBlank()
+            ? List.of()
+            : Arrays.asList(include.split(","));
+
+        Map<String, List<?>> bundle;
+        try {
+            bundle = BundleService.getBundle(parts);
+        } catch (IllegalArgumentException e) {
+            writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        // Stream encoded body straight into the response
+        writeBody(req, resp, bundle);
+    }
+}
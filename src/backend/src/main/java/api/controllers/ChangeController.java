@@ -0,0 +1,62 @@
+// java/api/controllers/ChangeController.java
+package api.controllers;
+
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.async.EventStream;
+import api.json.JsonUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
+import services.catalog.ChangeFeed;
+
+/**
+ * A controller streaming catalog changes as Server-Sent Events, so clients
+ * re-fetch only what changed. {@code GET /api/changes} emits:
+ *
+ * <ul>
+ *   <li> {@code change} - {@code {"type", "id", "operation"}} per committed
+ *        create, update or delete
+ *   <li> {@code reset} - on connect, unless resuming via {@code Last-Event-ID};
+ *        the client should (re)load whole lists, then apply later changes
+ * </ul>
+ */
+public class ChangeController extends Controller {
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.stream("/changes", this::subscribe);
+    }
+
+    private void subscribe(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        EventStream stream = EventStream.open(req);
+        if (stream == null) {
+            resp.setHeader("Retry-After", "5");
+            writeStatus(resp, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many open change streams");
+            return;
+        }
+
+        ChangeFeed.Subscriber subscriber = new ChangeFeed.Subscriber() {
+            @Override
+            public void onChange(String eventId, ChangeFeed.Change change) {
+                stream.send(eventId, "change", JsonUtils.toJson(change));
+            }
+            @Override
+            public void onReset(String eventId) {
+                stream.send(eventId, "reset", "{}");
+            }
+        };
+        stream.onClose(() -> ChangeFeed.unsubscribe(subscriber));
+
+        // Browsers resend the last ID seen on reconnect; others may pass it as a parameter
+        String lastEventId = req.getHeader("Last-Event-ID");
+        if (lastEventId == null) lastEventId = req.getParameter("lastEventId");
+        // Leave queue room for live changes and heartbeats while the replay drains
+        ChangeFeed.subscribe(lastEventId, EventStream.MAX_PENDING / 2, subscriber);
+
+        // Closed while subscribing - the close handler may have run first
+        if (stream.isClosed()) ChangeFeed.unsubscribe(subscriber);
+    }
+}
@@ -1,83 +1,253 @@
 // java/api/controllers/Controller.java
 package api.controllers;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonWriter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import api.cache.ResponseCache;
+import api.filters.CompressionFilter;
+import api.json.JsonUtils;
+import api.routing.RouteTable;
+import api.utils.NumberUtils;
+import api.utils.MediaType;
+import domain.core.Entity;
+import services.AbstractService.OperationResult;
+import services.BulkImport;
+
 /**
  * Abstract Controller class to be extended by all relevant controllers in the
- * backend. Required {@code handleGet(), handlePost(), handlePut(),
- * handleDelete()} methods to be implemented by subclass to define controller
- * capabilities.
+ * backend. Required {@code registerRoutes()} method to be implemented by
+ * subclass to define controller capabilities - each endpoint is dispatched
+ * straight to its own handler method, with path parameters already parsed.
  */
 public abstract class Controller {
 
+    // --- Constants ---
+    // Most IDs accepted by a single multi-get
+    private static final int MAX_IDS = 100;
+
     /**
-     * Controller method to distinguish between different servlet backend
-     * resource requests. Set up for CRUD access by default.
+     * Declare this controller's endpoints, each mapped to a handler method.
+     * Called once, when the {@link ControllerRegistry} compiles its routes.
+     *
+     * @param routes builder of the API route table
+     */
+    public abstract void registerRoutes(RouteTable.Builder routes);
+
+    /**
+     * Utility method to shorthand simple servlet responses. Streams the small
+     * envelope directly, without building a json tree or String.
      *
-     * @param parts string API endpoint called, split on {@code '/'}
-     * @param req {@link HttpServletRequest} object received from API call
      * @param resp {@link HttpServletResponse} object configured for API report
+     * @param success boolean value to set success/failure of response status
+     * @param message response message written back
      * @throws IOException
      */
-    public void handle(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        // The below methods are to be implemented by relevant Controller
-        switch (req.getMethod()) {
-            case "GET":
-                handleGet(parts, req, resp);
-                break;
-            case "POST":
-                handlePost(parts, req, resp);
-                break;
-            case "PUT":
-                handlePut(parts, req, resp);
-                break;
-            case "DELETE":
-                handleDelete(parts, req, resp);
-                break;
-            default:
-                writeStatus(resp, HttpServletResponse.SC_NOT_IMPLEMENTED, "Unrecognised method");
-        }
+    private static void writeResponse(HttpServletResponse resp, boolean success, String message) throws IOException {
+        resp.setContentType("application/json");
+
+        JsonWriter json = JsonUtils.newJsonWriter(resp.getWriter());
+        json.beginObject()
+            .name("status").value(success ? "success" : "failure")
+            .name("message").value(message)
+            .endObject()
+            .flush();
     }
 
-    protected void handleGet(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
+    /**
+     * Utility method to stream an object as the response body, encoded as
+     * negotiated via the {@code Accept} header (json or CBOR).
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param resp {@link HttpServletResponse} object configured for API report
+     * @param src Object written
+     * @throws IOException
+     */
+    protected static void writeBody(HttpServletRequest req, HttpServletResponse resp, Object src) throws IOException {
+        MediaType type = MediaType.ofResponse(req);
+        resp.addHeader("Vary", "Accept");
+        resp.setContentType(type.getMimeType());
+
+        if (type == MediaType.CBOR) JsonUtils.toCbor(src, resp.getOutputStream());
+        else JsonUtils.toJson(src, resp.getWriter());
     }
 
-    protected void handlePost(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
+    /**
+     * Utility method to read the request body, decoded according to its
+     * {@code Content-Type} (json or CBOR).
+     *
+     * @param <T> type of the object the body represents
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param classOfT {@code .class} of the object to be deserialised
+     * @return deserialised object, or null if the body is empty
+     * @throws IOException
+     */
+    protected static <T> T readBody(HttpServletRequest req, Class<T> classOfT) throws IOException {
+        return MediaType.ofRequest(req) == MediaType.CBOR
+            ? JsonUtils.fromCbor(req.getInputStream(), classOfT)
+            : JsonUtils.fromJson(req.getReader(), classOfT);
     }
 
-    protected void handlePut(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
+    /**
+     * Utility method to stream-parse an NDJSON request body (one json record
+     * per line) into a {@link BulkImport}, commit it, and report the outcome
+     * with any per-line errors. The body is read line by line, never held
+     * whole.
+     *
+     * @param <T> type of the entities imported
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param resp {@link HttpServletResponse} object configured for API report
+     * @param classOfT {@code .class} of the entities imported
+     * @param bulk empty import, validating each record
+     * @throws IOException
+     */
+    protected static <T extends Entity<?>> void importBulk(
+        HttpServletRequest req, HttpServletResponse resp, Class<T> classOfT, BulkImport<T> bulk
+    ) throws IOException {
+        BufferedReader reader = req.getReader();
+        long line = 0;
+        for (String record; (record = reader.readLine()) != null; ) {
+            line++;
+            if (record.isBlank()) continue;
+            try { bulk.add(line, JsonUtils.fromJson(record, classOfT)); }
+            catch (JsonParseException | IllegalArgumentException e) { bulk.reject(line, e.getMessage()); }
+        }
+
+        OperationResult result = bulk.commit();
+        String message = switch (result) {
+            case CREATED -> "Imported " + bulk.getAccepted() + " records";
+            case ILLEGAL_ENTITY -> bulk.getRejected() > 0
+                ? "Rejected " + bulk.getRejected() + " records - nothing imported"
+                : "No records to import";
+            default -> "Failed to import records";
+        };
+
+        resp.setStatus(result.getStatus());
+        resp.setContentType("application/json");
+        JsonWriter json = JsonUtils.newJsonWriter(resp.getWriter());
+        json.beginObject()
+            .name("status").value(result.getStatus() < 400 ? "success" : "failure")
+            .name("message").value(message)
+            .name("imported").value(result == OperationResult.CREATED ? bulk.getAccepted() : 0)
+            .name("rejected").value(bulk.getRejected())
+            .name("errors").beginArray();
+        for (BulkImport.LineError error : bulk.getErrors()) {
+            json.beginObject()
+                .name("line").value(error.line())
+                .name("message").value(error.message())
+                .endObject();
+        }
+        json.endArray().endObject().flush();
     }
 
-    protected void handleDelete(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setStatus(HttpServletResponse.SC_NOT_IMPLEMENTED);
+    /**
+     * Utility method to write an immutable object as the response body (json
+     * or CBOR, as negotiated), served from {@link ResponseCache}.
+     * Precompressed bytes are sent to clients accepting gzip, for bodies of
+     * at least {@link CompressionFilter#MIN_SIZE} bytes. Honours a
+     * {@code ?fields=a,b} sparse fieldset.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param resp {@link HttpServletResponse} object configured for API report
+     * @param key name the response is cached under
+     * @param src immutable object written
+     * @throws IOException
+     */
+    protected static void writeCached(HttpServletRequest req, HttpServletResponse resp, String key, Object src) throws IOException {
+        MediaType type = MediaType.ofResponse(req);
+        ResponseCache.Entry entry = ResponseCache.get(key, type, requestedFields(req), src);
+
+        byte[] body = entry.identity();
+        if (body.length >= CompressionFilter.MIN_SIZE && CompressionFilter.acceptsGzip(req)) {
+            resp.setHeader("Content-Encoding", "gzip");
+            body = entry.gzip();
+        }
+
+        resp.addHeader("Vary", "Accept");
+        resp.setContentType(type.getMimeType());
+        if (type == MediaType.JSON) resp.setCharacterEncoding("UTF-8");
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
     }
 
     /**
-     * Utility method to shorthand simple servlet responses.
+     * Utility method to serve a multi-get - {@code ?ids=1,2,3} - if requested.
+     * Entities are written in the order requested; unknown IDs are skipped.
      *
+     * @param req {@link HttpServletRequest} object received from API call
      * @param resp {@link HttpServletResponse} object configured for API report
-     * @param success boolean value to set success/failure of response status
-     * @param message response message written back
+     * @param lookup service method resolving an array of IDs
+     * @return true if the request was a multi-get (and has been answered)
      * @throws IOException
      */
-    private static void writeResponse(HttpServletResponse resp, boolean success, String message) throws IOException {
-        Gson gson = new Gson();
-        JsonObject json = new JsonObject();
-        json.addProperty("status", success ? "success" : "failure");
-        json.addProperty("message", message);
+    protected static boolean writeByIds(
+        HttpServletRequest req, HttpServletResponse resp, Function<long[], List<?>> lookup
+    ) throws IOException {
+        String param = req.getParameter("ids");
+        if (param == null) return false;
 
-        resp.setContentType("application/json");
-        resp.getWriter().write(gson.toJson(json));
+        long[] ids = parseIds(param);
+        if (ids == null) {
+            writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST,
+                "ids must be 1 to " + MAX_IDS + " comma separated IDs");
+            return true;
+        }
+        writeBody(req, resp, lookup.apply(ids));
+        return true;
+    }
+
+    /**
+     * Utility method to parse a comma separated ID list, dropping duplicates.
+     *
+     * @param param value of the {@code ids} query parameter
+     * @return IDs in order, or null if any is invalid, or too few or many
+     */
+    private static long[] parseIds(String param) {
+        long[] ids = new long[MAX_IDS];
+        int count = 0;
+        int start = 0;
+        while (start <= param.length()) {
+            int end = param.indexOf(',', start);
+            if (end < 0) end = param.length();
+            if (count == MAX_IDS || !NumberUtils.isLong(param, start, end)) return null;
+
+            long id = Long.parseLong(param, start, end, 10);
+            boolean duplicate = false;
+            for (int i = 0; i < count && !duplicate; i++) { duplicate = ids[i] == id; }
+            if (!duplicate) ids[count++] = id;
+            start = end + 1;
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Utility method to parse the {@code fields} query parameter.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @return sorted, unmodifiable set of field names, or null if absent
+     */
+    private static Set<String> requestedFields(HttpServletRequest req) {
+        String param = req.getParameter("fields");
+        if (param == null || param.isBlank()) return null;
+
+        Set<String> fields = new TreeSet<>();
+        Arrays.stream(param.split(","))
+            .map(String::trim)
+            .filter(f -> !f.isEmpty())
+            .forEach(fields::add);
+        return Collections.unmodifiableSet(fields);
     }
 
     /**
@@ -88,7 +258,7 @@ public abstract class Controller {
      * @param message response message written back
      * @throws IOException
      */
-    protected static void writeStatus(HttpServletResponse resp, int statusCode, String message) throws IOException {
+    public static void writeStatus(HttpServletResponse resp, int statusCode, String message) throws IOException {
         resp.setStatus(statusCode);
         writeResponse(resp, statusCode < 400, message);
     }
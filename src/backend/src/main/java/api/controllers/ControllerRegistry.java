@@ -1,31 +1,39 @@
 // java/api/controllers/ControllerRegistry.java
 package api.controllers;
 
-import java.util.HashMap;
-import java.util.Map;
+import api.routing.RouteTable;
 
 /**
- * Utility class to identify and return a relevant {@link Controller} for any
- * given resource routed. All utilised Controllers must be registered here.
+ * Utility class to compile the routes of every {@link Controller} into a
+ * single {@link RouteTable}. All utilised Controllers must be registered here.
  */
 public class ControllerRegistry {
-    private final static Map<String, Controller> REGISTRY = new HashMap<>();
+    private final static RouteTable ROUTES;
     static {
-        // Register all Controller routes here
-        REGISTRY.put("asm", new AsmController());
-        REGISTRY.put("feat", new FeatController());
-        REGISTRY.put("language", new LanguageController());
-        REGISTRY.put("proficiency", new ProficiencyController());
+        RouteTable.Builder routes = new RouteTable.Builder();
+        // Register all Controllers here
+        new AsmController().registerRoutes(routes);
+        new ChangeController().registerRoutes(routes);
+        new BundleController().registerRoutes(routes);
+        new ExportController().registerRoutes(routes);
+        new FeatController().registerRoutes(routes);
+        new LanguageController().registerRoutes(routes);
+        new MetricsController().registerRoutes(routes);
+        new ProficiencyController().registerRoutes(routes);
+        new ReadyController().registerRoutes(routes);
+        new SearchController().registerRoutes(routes);
+        ROUTES = routes.build();
     }
 
+    // Private Constructor (disallow instantiation)
+    private ControllerRegistry() {}
+
     /**
-     * Retrieve an instantiated {@link Controller} registered to the supplied
-     * resource name.
+     * Retrieve the compiled table of all API routes.
      *
-     * @param resource keyname to which specific Controller is mapped
-     * @return relevant Controller or null if unregistered/undefined
+     * @return immutable RouteTable
      */
-    public static Controller getController(String resource) {
-        return REGISTRY.get(resource);
+    public static RouteTable getRoutes() {
+        return ROUTES;
     }
 }
@@ -0,0 +1,74 @@
+// java/api/controllers/ExportController.java
+package api.controllers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumSet;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.json.JsonUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
+import services.ExportService;
+import services.ExportService.Resource;
+
+/**
+ * A controller exporting catalog content as NDJSON - one {@code {"type",
+ * "entity"}} object per line. Lines are streamed straight into the response
+ * (gzipped by {@link api.filters.CompressionFilter} if accepted), so memory
+ * use does not grow with the catalog.
+ *
+ * <p> {@code GET /api/export} exports everything; {@code ?type=feat,language}
+ * limits the resources exported.
+ */
+public class ExportController extends Controller {
+
+    /**
+     * One exported line.
+     */
+    private record Line(String type, Object entity) {}
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/export", this::export);
+    }
+
+    private void export(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Set<Resource> resources;
+        try {
+            resources = requestedResources(req.getParameter("type"));
+        } catch (IllegalArgumentException e) {
+            writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Unrecognised export type");
+            return;
+        }
+
+        resp.setContentType("application/x-ndjson");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("Content-Disposition", "attachment; filename=\"catalog.ndjson\"");
+
+        // Lines share the response buffer - flushed as it fills, not per line
+        Writer writer = resp.getWriter();
+        ExportService.exportAll(resources, (resource, entity) ->
+            JsonUtils.toJsonLine(new Line(resource.getName(), entity), writer)
+        );
+        writer.flush();
+    }
+
+    /**
+     * Utility method to parse the {@code type} query parameter.
+     *
+     * @param param comma separated resource names, or null for all
+     * @return resources requested
+     * @throws IllegalArgumentException if any name is unrecognised
+     */
+    private static Set<Resource> requestedResources(String param) {
+        if (param == null || param.isBlank()) return EnumSet.allOf(Resource.class);
+
+        Set<Resource> resources = EnumSet.noneOf(Resource.class);
+        for (String name : param.split(",")) { resources.add(Resource.fromString(name)); }
+        return resources;
+    }
+}
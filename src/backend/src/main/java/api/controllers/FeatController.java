@@ -7,8 +7,8 @@ import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import api.json.JsonUtils;
-import api.utils.NumberUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
 import domain.modifiers.Feat;
 import services.FeatService;
 
@@ -19,31 +19,39 @@ import services.FeatService;
 public class FeatController extends Controller {
 
     @Override
-    protected void handleGet(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setContentType("application/json");
-
-        // Convert retrieved data into a Json text
-        String json;
-
-        // Identify endpoint
-        if (parts.length > 0 && NumberUtils.isLong(parts[0])) {
-            // Get a specific Feat
-            long id = Long.parseLong(parts[0]);
-            Feat feat = FeatService.getById(id);
-            json = JsonUtils.toJson(feat);
-        } else {
-            // Return all Feats
-            List<Feat> feats = FeatService.getAll();
-            json = JsonUtils.toJson(feats);
-        }
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/feat", this::getAll)
+            .get("/feat/{id:long}", this::getById)
+            .post("/feat", this::create)
+            .post("/feat/bulk", this::importAll)
+            .put("/feat", this::update)
+            .delete("/feat", this::delete);
+    }
+
+    private void getAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // ?ids=1,2,3 - Return each requested entity
+        if (writeByIds(req, resp, FeatService::getAllById)) return;
 
-        resp.getWriter().write(json);
+        // Return all Feats
+        List<Feat> feats = FeatService.getAll();
+        writeCached(req, resp, "feat", feats);
     }
 
-    @Override
-    protected void handlePost(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void getById(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Get a specific Feat
+        Feat feat = FeatService.getById(params.getLong("id"));
+        // Stream encoded body straight into the response
+        writeBody(req, resp, feat);
+    }
+
+    private void importAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Import NDJSON records in a single transaction
+        importBulk(req, resp, Feat.class, FeatService.newImport());
+    }
+
+    private void create(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Feat feat = JsonUtils.fromJson(req.getReader(), Feat.class);
+        Feat feat = readBody(req, Feat.class);
 
         // Do operation
         FeatService.OperationResult result;
@@ -65,10 +73,9 @@ public class FeatController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handlePut(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void update(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Feat feat = JsonUtils.fromJson(req.getReader(), Feat.class);
+        Feat feat = readBody(req, Feat.class);
 
         // Do operation
         FeatService.OperationResult result;
@@ -90,10 +97,9 @@ public class FeatController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handleDelete(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void delete(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Feat feat = JsonUtils.fromJson(req.getReader(), Feat.class);
+        Feat feat = readBody(req, Feat.class);
 
         // Do operation
         FeatService.OperationResult result;
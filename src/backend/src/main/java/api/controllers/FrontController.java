@@ -8,43 +8,106 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
-import java.util.Arrays;
 
+import api.async.AsyncDispatcher;
+import api.metrics.RouteMetrics;
+import api.ratelimit.RateLimiter;
+import api.routing.RouteTable;
 import datasource.exceptions.IllegalPersistException;
 import datasource.exceptions.PersistenceException;
 
-@WebServlet(name = "FrontController", value = "/api/*")
+@WebServlet(name = "FrontController", value = "/api/*", asyncSupported = true)
 public class FrontController extends HttpServlet {
 
+    // --- Constants ---
+    // Not defined by HttpServletResponse
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
     @Override
     protected void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-        resp.setContentType("application/json");
+        long start = System.nanoTime();
+        String route = RouteMetrics.UNMATCHED;
+        boolean async = false;
+        boolean failed = false;
 
-        /* Authentication & Authorisation intercepts HTTPrequest before
-            Frontcontroller delegation. Checks authentication token if
-            necessary and validates endpoint is allowed. */
+        try {
+            resp.setContentType("application/json");
 
-        String path = req.getPathInfo();
-        if (path == null || path.equals("/")) {
-            Controller.writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Please provide a valid path");
-            return;
-        }
+            /* Authentication & Authorisation intercepts HTTPrequest before
+                Frontcontroller delegation. Checks authentication token if
+                necessary and validates endpoint is allowed. */
+
+            String path = req.getPathInfo();
+            if (path == null || path.equals("/")) {
+                Controller.writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Please provide a valid path");
+                return;
+            }
+
+            // Retrieve relevant handler and pass request and user details to it
+            RouteTable.Match match = ControllerRegistry.getRoutes().match(req.getMethod(), path);
+            if (match == null) {
+                // Unrecognised resource request
+                Controller.writeStatus(resp, HttpServletResponse.SC_NOT_FOUND, "Unrecognised resource");
+                return;
+            }
+            route = match.route();
+            if (match.handler() == null) {
+                // Resource exists, but not for this method
+                resp.setHeader("Allow", String.join(", ", match.allowed()));
+                Controller.writeStatus(resp, HttpServletResponse.SC_METHOD_NOT_ALLOWED, "Unrecognised method");
+                return;
+            }
 
-        // Retrieve relevant controller and pass request and user details to it
-        String[] parts = path.substring(1).split("/");
-        String resource = parts[0];
-        parts = Arrays.copyOfRange(parts, 1, parts.length);
+            // Throttle clients exceeding their request rate, before any work is done
+            long retryAfter = RateLimiter.acquire(req, route);
+            if (retryAfter > 0) {
+                resp.setHeader("Retry-After", Long.toString(retryAfter));
+                Controller.writeStatus(resp, SC_TOO_MANY_REQUESTS, "Too many requests - please retry later");
+                return;
+            }
 
-        Controller controller = ControllerRegistry.getController(resource);
-        if (controller == null) {
-            // Unrecognised resource request
-            Controller.writeStatus(resp, HttpServletResponse.SC_NOT_FOUND, "Unrecognised resource");
-            return;
+            // Serve off the container thread if configured, else in place
+            boolean dispatched = AsyncDispatcher.isEnabled() && !match.streaming();
+            if (dispatched) {
+                AsyncDispatcher.dispatch(req, (request, response) -> handle(match, request, response));
+            } else {
+                handle(match, req, resp);
+            }
+
+            // Dispatched and streaming requests are recorded once complete
+            if (dispatched || req.isAsyncStarted()) {
+                async = true;
+                req.getAsyncContext().addListener(RouteMetrics.onComplete(req.getMethod(), route, start, resp));
+            }
+
+        } catch (ServletException | IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+
+        } finally {
+            // Asynchronous requests are recorded once complete
+            if (!async) {
+                int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : resp.getStatus();
+                RouteMetrics.record(req.getMethod(), route, status, System.nanoTime() - start);
+            }
         }
+    }
 
-        // Wrap the handle call to catch and manage common exceptions globally
+    /**
+     * Invoke a matched handler, catching and managing common exceptions
+     * globally.
+     *
+     * @param match route matched for the request
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param resp {@link HttpServletResponse} object configured for API report
+     * @throws ServletException on any unaccounted for exception
+     * @throws IOException
+     */
+    private static void handle(RouteTable.Match match, HttpServletRequest req, HttpServletResponse resp)
+        throws ServletException, IOException
+    {
         try {
-            controller.handle(parts, req, resp);
+            match.handler().handle(match.params(), req, resp);
 
         } catch (IllegalPersistException e) {
             // Database constraint violation
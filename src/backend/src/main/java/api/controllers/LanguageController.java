@@ -7,8 +7,8 @@ import java.util.List;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import api.json.JsonUtils;
-import api.utils.NumberUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
 import domain.modifiers.Language;
 import services.LanguageService;
 
@@ -19,31 +19,39 @@ import services.LanguageService;
 public class LanguageController extends Controller {
 
     @Override
-    protected void handleGet(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setContentType("application/json");
-
-        // Convert retrieved data into a Json text
-        String json;
-
-        // Identify endpoint
-        if (parts.length > 0 && NumberUtils.isLong(parts[0])) {
-            // Get a specific Language
-            long id = Long.parseLong(parts[0]);
-            Language language = LanguageService.getById(id);
-            json = JsonUtils.toJson(language);
-        } else {
-            // Return all Languages
-            List<Language> languages = LanguageService.getAll();
-            json = JsonUtils.toJson(languages);
-        }
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/language", this::getAll)
+            .get("/language/{id:long}", this::getById)
+            .post("/language", this::create)
+            .post("/language/bulk", this::importAll)
+            .put("/language", this::update)
+            .delete("/language", this::delete);
+    }
+
+    private void getAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // ?ids=1,2,3 - Return each requested entity
+        if (writeByIds(req, resp, LanguageService::getAllById)) return;
 
-        resp.getWriter().write(json);
+        // Return all Languages
+        List<Language> languages = LanguageService.getAll();
+        writeCached(req, resp, "language", languages);
     }
 
-    @Override
-    protected void handlePost(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void getById(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Get a specific Language
+        Language language = LanguageService.getById(params.getLong("id"));
+        // Stream encoded body straight into the response
+        writeBody(req, resp, language);
+    }
+
+    private void importAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Import NDJSON records in a single transaction
+        importBulk(req, resp, Language.class, LanguageService.newImport());
+    }
+
+    private void create(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Language language = JsonUtils.fromJson(req.getReader(), Language.class);
+        Language language = readBody(req, Language.class);
 
         // Do operation
         LanguageService.OperationResult result;
@@ -65,10 +73,9 @@ public class LanguageController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handlePut(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void update(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Language language = JsonUtils.fromJson(req.getReader(), Language.class);
+        Language language = readBody(req, Language.class);
 
         // Do operation
         LanguageService.OperationResult result;
@@ -90,10 +97,9 @@ public class LanguageController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handleDelete(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void delete(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Language language = JsonUtils.fromJson(req.getReader(), Language.class);
+        Language language = readBody(req, Language.class);
 
         // Do operation
         LanguageService.OperationResult result;
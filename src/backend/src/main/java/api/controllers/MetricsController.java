@@ -0,0 +1,36 @@
+// java/api/controllers/MetricsController.java
+package api.controllers;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.metrics.RouteMetrics;
+import api.routing.PathParams;
+import api.routing.RouteTable;
+
+/**
+ * An admin endpoint exposing per-route request metrics ({@link RouteMetrics})
+ * in the Prometheus text exposition format, for scraping.
+ */
+public class MetricsController extends Controller {
+
+    // --- Constants ---
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/admin/metrics", this::getMetrics);
+    }
+
+    private void getMetrics(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setContentType(CONTENT_TYPE);
+        resp.setHeader("Cache-Control", "no-store");
+
+        Writer writer = resp.getWriter();
+        RouteMetrics.write(writer);
+        writer.flush();
+    }
+}
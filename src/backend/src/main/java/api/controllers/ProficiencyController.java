@@ -4,8 +4,8 @@ package api.controllers;
 import java.io.IOException;
 import java.util.List;
 
-import api.json.JsonUtils;
-import api.utils.NumberUtils;
+import api.routing.PathParams;
+import api.routing.RouteTable;
 import domain.modifiers.proficiency.Proficiency;
 import domain.types.ProficiencyType;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,36 +19,44 @@ import services.ProficiencyService;
 public class ProficiencyController extends Controller {
 
     @Override
-    protected void handleGet(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        resp.setContentType("application/json");
-
-        // Convert retrieved data into a Json text
-        String json;
-
-        // Identify endpoint
-        if (parts.length == 1 && NumberUtils.isLong(parts[0])) {
-            // /{id} - Get a specific Proficiency
-            long id = Long.parseLong(parts[0]);
-            Proficiency proficiency = ProficiencyService.getById(id);
-            json = JsonUtils.toJson(proficiency);
-
-        } else if (parts.length > 0) {
-            // /{type} - Return all proficiencies based on type
-            ProficiencyType type = ProficiencyType.fromString(parts[0]);
-            List<? extends Proficiency> proficiencies = ProficiencyService.getAllByType(type);
-            json = JsonUtils.toJson(proficiencies);
-
-        } else {
-            throw new IllegalStateException("Proficiency type or ID required");
-        }
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/proficiency", this::getAllById)
+            .get("/proficiency/{id:long}", this::getById)
+            .get("/proficiency/{type}", this::getAllByType)
+            .post("/proficiency", this::create)
+            .post("/proficiency/bulk", this::importAll)
+            .put("/proficiency", this::update)
+            .delete("/proficiency", this::delete);
+    }
 
-        resp.getWriter().write(json);
+    private void getById(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Get a specific Proficiency
+        Proficiency proficiency = ProficiencyService.getById(params.getLong("id"));
+        // Stream encoded body straight into the response
+        writeBody(req, resp, proficiency);
     }
 
-    @Override
-    protected void handlePost(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void getAllById(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // ?ids=1,2,3 - Return each requested proficiency, of any type
+        if (writeByIds(req, resp, ProficiencyService::getAllById)) return;
+        writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Proficiency type or IDs required");
+    }
+
+    private void getAllByType(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Return all proficiencies based on type
+        ProficiencyType type = ProficiencyType.fromString(params.getString("type"));
+        List<? extends Proficiency> proficiencies = ProficiencyService.getAllByType(type);
+        writeCached(req, resp, "proficiency/" + type, proficiencies);
+    }
+
+    private void importAll(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        // Import NDJSON records in a single transaction
+        importBulk(req, resp, Proficiency.class, ProficiencyService.newImport());
+    }
+
+    private void create(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Proficiency proficiency = JsonUtils.fromJson(req.getReader(), Proficiency.class);
+        Proficiency proficiency = readBody(req, Proficiency.class);
 
         // Do operation
         ProficiencyService.OperationResult result;
@@ -70,10 +78,9 @@ public class ProficiencyController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handlePut(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void update(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Proficiency proficiency = JsonUtils.fromJson(req.getReader(), Proficiency.class);
+        Proficiency proficiency = readBody(req, Proficiency.class);
 
         // Do operation
         ProficiencyService.OperationResult result;
@@ -95,10 +102,9 @@ public class ProficiencyController extends Controller {
         writeStatus(resp, result.getStatus(), msg);
     }
 
-    @Override
-    protected void handleDelete(String[] parts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    private void delete(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
         // Read Json input into DTO (domain object in this case)
-        Proficiency proficiency = JsonUtils.fromJson(req.getReader(), Proficiency.class);
+        Proficiency proficiency = readBody(req, Proficiency.class);
 
         // Do operation
         ProficiencyService.OperationResult result;
@@ -0,0 +1,46 @@
+// java/api/controllers/ReadyController.java
+package api.controllers;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonWriter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.json.JsonUtils;
+import api.listeners.Warmup;
+import api.routing.PathParams;
+import api.routing.RouteTable;
+
+/**
+ * A readiness check for load balancers. Responds {@code 200} once deploy time
+ * {@link Warmup} has completed, and {@code 503} with progress until then.
+ */
+public class ReadyController extends Controller {
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/ready", this::getReadiness);
+    }
+
+    private void getReadiness(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Warmup.State state = Warmup.getState();
+
+        // A failed warm-up falls back to lazy loading - still serviceable
+        boolean ready = state == Warmup.State.READY || state == Warmup.State.FAILED;
+
+        resp.setStatus(ready ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        resp.setContentType("application/json");
+        resp.setHeader("Cache-Control", "no-store");
+
+        JsonWriter json = JsonUtils.newJsonWriter(resp.getWriter());
+        json.beginObject()
+            .name("status").value(ready ? "success" : "failure")
+            .name("state").value(state.name())
+            .name("completed").value(Warmup.getCompleted())
+            .name("total").value(Warmup.getTotal())
+            .endObject()
+            .flush();
+    }
+}
@@ -0,0 +1,58 @@
+// java/api/controllers/SearchController.java
+package api.controllers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import api.routing.PathParams;
+import api.routing.RouteTable;
+import api.utils.NumberUtils;
+import services.SearchService;
+import services.catalog.SearchIndex;
+
+/**
+ * A controller for as-you-type catalog search, e.g. {@code GET
+ * /api/search?q=dwarv&type=language,feat&limit=10} returns ranked {@code
+ * {"type", "id", "name", "score"}} matches.
+ */
+public class SearchController extends Controller {
+
+    @Override
+    public void registerRoutes(RouteTable.Builder routes) {
+        routes.get("/search", this::search);
+    }
+
+    private void search(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String query = req.getParameter("q");
+        if (query == null || query.isBlank()) {
+            writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Search query required");
+            return;
+        }
+
+        String limitParam = req.getParameter("limit");
+        int limit = SearchService.DEFAULT_LIMIT;
+        if (limitParam != null) {
+            if (!NumberUtils.isLong(limitParam) || Long.parseLong(limitParam) < 1) {
+                writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, "Invalid limit");
+                return;
+            }
+            limit = (int) Math.min(Long.parseLong(limitParam), SearchService.MAX_LIMIT);
+        }
+
+        String type = req.getParameter("type");
+        List<String> types = type == null || type.isBlank() ? List.of() : Arrays.asList(type.split(","));
+
+        List<SearchIndex.Hit> hits;
+        try {
+            hits = SearchService.search(query, types, limit);
+        } catch (IllegalArgumentException e) {
+            writeStatus(resp, HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        writeBody(req, resp, hits);
+    }
+}
@@ -0,0 +1,74 @@
+// java/api/filters/CompressionFilter.java
+package api.filters;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Gzip compresses API responses for clients that accept it. Responses smaller
+ * than {@link #MIN_SIZE} bytes are sent as is, as compression would not pay
+ * for itself.
+ *
+ * <p> Responses already carrying a {@code Content-Encoding} (e.g. precompressed
+ * cache entries) pass through untouched. Requests served asynchronously (see
+ * {@link api.async.AsyncDispatcher}) bypass this filter's wrapper once started.
+ */
+@WebFilter(filterName = "CompressionFilter", urlPatterns = "/api/*", asyncSupported = true)
+public class CompressionFilter extends HttpFilter {
+
+    // --- Constants ---
+    public static final int MIN_SIZE = 1024;
+
+    @Override
+    protected void doFilter(HttpServletRequest req, HttpServletResponse resp, FilterChain chain)
+        throws IOException, ServletException
+    {
+        // Responses differ by Accept-Encoding, whether compressed or not
+        resp.addHeader("Vary", "Accept-Encoding");
+
+        if (!acceptsGzip(req)) {
+            chain.doFilter(req, resp);
+            return;
+        }
+
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(resp, MIN_SIZE);
+        chain.doFilter(req, wrapper);
+        // Asynchronous requests compress their own buffered bodies
+        if (!req.isAsyncStarted()) wrapper.finish();
+    }
+
+    /**
+     * Utility method to check whether a request accepts gzip encoded content.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @return true if {@code gzip} (or {@code *}) is acceptable, false otherwise
+     */
+    public static boolean acceptsGzip(HttpServletRequest req) {
+        String header = req.getHeader("Accept-Encoding");
+        if (header == null) return false;
+
+        for (String coding : header.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) continue;
+
+            // Explicit q=0 means "not acceptable"
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try { refused = Double.parseDouble(param.substring(2)) == 0; }
+                    catch (NumberFormatException ignored) {}
+                }
+            }
+            if (!refused) return true;
+        }
+        return false;
+    }
+}
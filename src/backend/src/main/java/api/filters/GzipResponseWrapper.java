@@ -0,0 +1,210 @@
+// java/api/filters/GzipResponseWrapper.java
+package api.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Response wrapper buffering the body until it reaches a size threshold, then
+ * streaming it gzip compressed. Bodies finishing under the threshold are sent
+ * uncompressed with an exact {@code Content-Length}.
+ *
+ * <p> Stream (and writer) flushes are ignored until the encoding is decided,
+ * as writers flush whenever a body is complete - honouring them would send
+ * most small-to-medium bodies uncompressed. Only an explicit
+ * {@link #flushBuffer()} before the threshold is reached sends the body
+ * uncompressed.
+ */
+class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+    // --- Attributes ---
+    private final int threshold;
+    private GzipStream stream;
+    private PrintWriter writer;
+
+    // Constructor
+    GzipResponseWrapper(HttpServletResponse resp, int threshold) {
+        super(resp);
+        this.threshold = threshold;
+    }
+
+    /* ======================================================================
+     * ------------------------ Response  Overrides -------------------------
+     * ====================================================================== */
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) throw new IllegalStateException("getWriter() already called");
+        if (stream == null) stream = new GzipStream();
+        return stream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer != null) return writer;
+        if (stream != null) throw new IllegalStateException("getOutputStream() already called");
+        stream = new GzipStream();
+        writer = new PrintWriter(new OutputStreamWriter(stream, getCharacterEncoding()));
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) { setContentLengthLong(len); }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        // Length only holds for bodies that will not be (re)compressed
+        if (isPreEncoded()) super.setContentLengthLong(len);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) writer.flush();
+        if (stream != null) stream.commit();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        stream = null;
+        writer = null;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (stream != null && stream.target != null) throw new IllegalStateException("Response already committed");
+        super.resetBuffer();
+        stream = null;
+        writer = null;
+    }
+
+    /**
+     * Complete the response, writing out any buffered bytes.
+     *
+     * @throws IOException
+     */
+    void finish() throws IOException {
+        if (writer != null) writer.flush();
+        if (stream != null) stream.finish();
+    }
+
+    /**
+     * @return true if the body written already carries a content encoding
+     */
+    private boolean isPreEncoded() { return containsHeader("Content-Encoding"); }
+
+    /* ======================================================================
+     * ---------------------------- Output Stream ---------------------------
+     * ====================================================================== */
+
+    /**
+     * Output stream deciding between identity and gzip encoding once
+     * {@code threshold} bytes have been written.
+     */
+    private class GzipStream extends ServletOutputStream {
+
+        // --- Attributes ---
+        // Body held until encoding is decided, null afterwards
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        // Decided destination (compressing or raw), null until then
+        private OutputStream target;
+        private GZIPOutputStream gzip;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (target == null) {
+                buffer.write(b);
+                if (buffer.size() >= threshold) startGzip();
+            } else {
+                target.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null) {
+                buffer.write(b, off, len);
+                if (buffer.size() >= threshold) startGzip();
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Held until the encoding is decided - see finish() and commit()
+            if (target != null) target.flush();
+        }
+
+        @Override
+        public boolean isReady() { return target == null || rawStream().isReady(); }
+
+        @Override
+        public void setWriteListener(WriteListener listener) { rawStream().setWriteListener(listener); }
+
+        /**
+         * Send what is written so far, deciding on identity encoding if not
+         * yet decided - trading compression for latency.
+         */
+        void commit() throws IOException {
+            if (target == null) startIdentity();
+            target.flush();
+        }
+
+        /**
+         * Complete the body - small bodies are sent as is.
+         */
+        void finish() throws IOException {
+            if (target == null) {
+                if (!isPreEncoded()) getResponse().setContentLength(buffer.size());
+                startIdentity();
+            }
+            if (gzip != null) gzip.finish();
+            target.flush();
+        }
+
+        /**
+         * Switch to compressed output, unless the body is already encoded.
+         */
+        private void startGzip() throws IOException {
+            if (isPreEncoded()) { startIdentity(); return; }
+            setHeader("Content-Encoding", "gzip");
+            gzip = new GZIPOutputStream(rawStream(), 8192);
+            drainTo(gzip);
+        }
+
+        /**
+         * Switch to uncompressed output.
+         */
+        private void startIdentity() throws IOException {
+            drainTo(rawStream());
+        }
+
+        /**
+         * Utility method to write out buffered bytes and fix the destination.
+         */
+        private void drainTo(OutputStream out) throws IOException {
+            target = out;
+            buffer.writeTo(out);
+            buffer = null;
+        }
+
+        /**
+         * Utility method to access the wrapped response's output stream.
+         */
+        private ServletOutputStream rawStream() {
+            try { return getResponse().getOutputStream(); }
+            catch (IOException e) { throw new IllegalStateException(e); }
+        }
+    }
+}
@@ -0,0 +1,420 @@
+// java/api/json/CborReader.java
+package api.json;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * A {@link JsonReader} consuming CBOR (RFC 8949) instead of json text, so any
+ * Gson TypeAdapter can read the binary encoding written by {@link CborWriter}.
+ *
+ * <p> Supports integers, floats (half, single and double precision), text
+ * strings, booleans, null/undefined and both definite and indefinite length
+ * arrays and maps. Tags are ignored; byte strings are rejected. Map keys must
+ * be text strings.
+ */
+public class CborReader extends JsonReader {
+
+    // --- Constants ---
+    private static final int BREAK = 0xff;
+
+    /**
+     * An open array or map.
+     */
+    private static class Frame {
+        final boolean map;
+        // Items (array) or entries (map) left, -1 if indefinite
+        long remaining;
+        boolean keyNext;
+
+        Frame(boolean map, long remaining) {
+            this.map = map;
+            this.remaining = remaining;
+            this.keyNext = map;
+        }
+    }
+
+    // --- Attributes ---
+    private final InputStream in;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    // Byte read ahead by peekByte(), -2 if none
+    private int lookahead = -2;
+    private long position;
+    // Decoded next token and its value (String, Long, Double, Boolean or length)
+    private JsonToken peeked;
+    private Object peekedValue;
+
+    // Constructor
+    public CborReader(InputStream in) {
+        super(Reader.nullReader());
+        this.in = in;
+    }
+
+    /* ======================================================================
+     * ----------------------------- Structure ------------------------------
+     * ====================================================================== */
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (peeked != null) return peeked;
+
+        Frame frame = stack.peek();
+        if (frame == null) {
+            // Top level - a document holds a single item
+            if (position > 0 && peekByte() == -1) return peeked = JsonToken.END_DOCUMENT;
+        } else {
+            if (frame.remaining == 0 || (frame.remaining < 0 && peekByte() == BREAK)) {
+                if (frame.remaining < 0) readByte();
+                return peeked = frame.map ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+            }
+            if (frame.map && frame.keyNext) {
+                if (decodeItem() != JsonToken.STRING) throw syntaxError("Expected a text map key");
+                return peeked = JsonToken.NAME;
+            }
+        }
+        return peeked = decodeItem();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(new Frame(false, (Long) peekedValue));
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        expect(JsonToken.END_ARRAY);
+        stack.pop();
+        consumed();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(new Frame(true, (Long) peekedValue));
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        expect(JsonToken.END_OBJECT);
+        stack.pop();
+        consumed();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_ARRAY && token != JsonToken.END_OBJECT && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        expect(JsonToken.NAME);
+        String name = (String) peekedValue;
+        peeked = null;
+        stack.peek().keyNext = false;
+        return name;
+    }
+
+    /* ======================================================================
+     * ------------------------------- Values -------------------------------
+     * ====================================================================== */
+
+    @Override
+    public String nextString() throws IOException {
+        JsonToken token = peek();
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) throw unexpected(JsonToken.STRING);
+        String value = token == JsonToken.STRING ? (String) peekedValue : numberText();
+        consumed();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        expect(JsonToken.BOOLEAN);
+        boolean value = (Boolean) peekedValue;
+        consumed();
+        return value;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        expect(JsonToken.NULL);
+        consumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        JsonToken token = peek();
+        double value;
+        if (token == JsonToken.NUMBER) {
+            value = ((Number) peekedValue).doubleValue();
+        } else if (token == JsonToken.STRING) {
+            try { value = Double.parseDouble((String) peekedValue); }
+            catch (NumberFormatException e) { throw new NumberFormatException("Expected a double" + locationString()); }
+        } else {
+            throw unexpected(JsonToken.NUMBER);
+        }
+        consumed();
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        long value = peekLong();
+        consumed();
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        long value = peekLong();
+        if ((int) value != value) throw new NumberFormatException("Expected an int but was " + value + locationString());
+        consumed();
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        JsonToken token = peek();
+        switch (token) {
+            case NAME -> { nextName(); skipValue(); }
+            case BEGIN_ARRAY -> {
+                beginArray();
+                while (hasNext()) skipValue();
+                endArray();
+            }
+            case BEGIN_OBJECT -> {
+                beginObject();
+                while (hasNext()) { nextName(); skipValue(); }
+                endObject();
+            }
+            case END_ARRAY, END_OBJECT, END_DOCUMENT -> { /* Nothing to skip */ }
+            default -> consumed();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stack.clear();
+        peeked = null;
+        in.close();
+    }
+
+    @Override
+    public String getPath() { return "$ (CBOR byte " + position + ")"; }
+
+    @Override
+    public String getPreviousPath() { return getPath(); }
+
+    @Override
+    public String toString() { return getClass().getSimpleName() + locationString(); }
+
+    /* ======================================================================
+     * ------------------------------ Decoding ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Decode the next data item's token, and its value or container length.
+     */
+    private JsonToken decodeItem() throws IOException {
+        int initial = readByte();
+        if (initial == -1) throw new EOFException("End of input" + locationString());
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+
+        switch (major) {
+            case 0 -> { peekedValue = unsigned(readArgument(info)); return JsonToken.NUMBER; }
+            case 1 -> {
+                long arg = readArgument(info);
+                peekedValue = arg >= 0 ? (Object) (-1 - arg) : (Object) (-1 - unsignedDouble(arg));
+                return JsonToken.NUMBER;
+            }
+            case 2 -> throw syntaxError("Byte strings are not supported");
+            case 3 -> { peekedValue = readText(info); return JsonToken.STRING; }
+            case 4 -> { peekedValue = info == 31 ? -1L : readArgument(info); return JsonToken.BEGIN_ARRAY; }
+            case 5 -> { peekedValue = info == 31 ? -1L : readArgument(info); return JsonToken.BEGIN_OBJECT; }
+            case 6 -> { readArgument(info); return decodeItem(); } // Tag - ignored
+            default -> { return decodeSimple(info); }
+        }
+    }
+
+    /**
+     * Decode a major type 7 item - booleans, null and floats.
+     */
+    private JsonToken decodeSimple(int info) throws IOException {
+        switch (info) {
+            case 20, 21 -> { peekedValue = info == 21; return JsonToken.BOOLEAN; }
+            case 22, 23 -> { peekedValue = null; return JsonToken.NULL; }
+            case 25 -> { peekedValue = halfToDouble((int) readBytes(2)); return JsonToken.NUMBER; }
+            case 26 -> { peekedValue = (double) Float.intBitsToFloat((int) readBytes(4)); return JsonToken.NUMBER; }
+            case 27 -> { peekedValue = Double.longBitsToDouble(readBytes(8)); return JsonToken.NUMBER; }
+            case 31 -> throw syntaxError("Unexpected break");
+            default -> throw syntaxError("Unsupported simple value " + info);
+        }
+    }
+
+    /**
+     * Read a text string, including indefinite length (chunked) strings.
+     */
+    private String readText(int info) throws IOException {
+        if (info != 31) return new String(readN(readArgument(info)), StandardCharsets.UTF_8);
+
+        StringBuilder sb = new StringBuilder();
+        for (int b = readByte(); b != BREAK; b = readByte()) {
+            if (b == -1) throw new EOFException("End of input" + locationString());
+            if (b >>> 5 != 3 || (b & 0x1f) == 31) throw syntaxError("Invalid text string chunk");
+            sb.append(new String(readN(readArgument(b & 0x1f)), StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Read the argument following an initial byte.
+     */
+    private long readArgument(int info) throws IOException {
+        if (info < 24) return info;
+        return switch (info) {
+            case 24 -> readBytes(1);
+            case 25 -> readBytes(2);
+            case 26 -> readBytes(4);
+            case 27 -> readBytes(8);
+            default -> throw syntaxError("Invalid additional information " + info);
+        };
+    }
+
+    /**
+     * Decode an IEEE 754 half precision float (RFC 8949 Appendix D).
+     */
+    private static double halfToDouble(int half) {
+        int exp = (half >>> 10) & 0x1f;
+        int mant = half & 0x3ff;
+        double value;
+        if (exp == 0) value = Math.scalb((double) mant, -24);
+        else if (exp != 31) value = Math.scalb((double) (mant + 1024), exp - 25);
+        else value = mant == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        return (half & 0x8000) != 0 ? -value : value;
+    }
+
+    /* -------------------------- Utility  Methods -------------------------- */
+
+    /**
+     * Read the next value as a long, without consuming it.
+     */
+    private long peekLong() throws IOException {
+        JsonToken token = peek();
+        if (token == JsonToken.NUMBER && peekedValue instanceof Long l) return l;
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) throw unexpected(JsonToken.NUMBER);
+
+        double d = token == JsonToken.NUMBER ? (Double) peekedValue : parseDouble((String) peekedValue);
+        long value = (long) d;
+        if (value != d) throw new NumberFormatException("Expected a long but was " + d + locationString());
+        return value;
+    }
+
+    /**
+     * Mark the current value consumed, advancing the enclosing container.
+     */
+    private void consumed() {
+        peeked = null;
+        peekedValue = null;
+        Frame frame = stack.peek();
+        if (frame == null) return;
+        if (frame.remaining > 0) frame.remaining--;
+        if (frame.map) frame.keyNext = true;
+    }
+
+    /**
+     * Enter a container, bounded by the configured nesting limit.
+     */
+    private void push(Frame frame) throws IOException {
+        if (stack.size() >= getNestingLimit()) throw syntaxError("Nesting limit " + getNestingLimit() + " reached");
+        peeked = null;
+        stack.push(frame);
+    }
+
+    private void expect(JsonToken expected) throws IOException {
+        if (peek() != expected) throw unexpected(expected);
+    }
+
+    private IllegalStateException unexpected(JsonToken expected) {
+        return new IllegalStateException("Expected " + expected + " but was " + peeked + locationString());
+    }
+
+    private MalformedJsonException syntaxError(String message) {
+        return new MalformedJsonException(message + locationString());
+    }
+
+    private String locationString() { return " at CBOR byte " + position; }
+
+    private String numberText() {
+        return peekedValue instanceof Double d && d == Math.rint(d) && !Double.isInfinite(d)
+            ? new BigDecimal(d).toPlainString()
+            : peekedValue.toString();
+    }
+
+    private static double parseDouble(String s) {
+        try { return Double.parseDouble(s); }
+        catch (NumberFormatException e) { throw new NumberFormatException("Expected a number but was " + s); }
+    }
+
+    /**
+     * Utility method to box an unsigned 64-bit argument, as a double if it
+     * overflows a long.
+     */
+    private static Object unsigned(long arg) { return arg >= 0 ? (Object) arg : (Object) unsignedDouble(arg); }
+
+    private static double unsignedDouble(long arg) { return (arg >>> 1) * 2.0 + (arg & 1); }
+
+    /* ------------------------------- Input  ------------------------------- */
+
+    private int peekByte() throws IOException {
+        if (lookahead == -2) lookahead = in.read();
+        return lookahead;
+    }
+
+    private int readByte() throws IOException {
+        int b = peekByte();
+        lookahead = -2;
+        if (b != -1) position++;
+        return b;
+    }
+
+    private long readBytes(int count) throws IOException {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            int b = readByte();
+            if (b == -1) throw new EOFException("End of input" + locationString());
+            value = value << 8 | b;
+        }
+        return value;
+    }
+
+    private byte[] readN(long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) throw syntaxError("Invalid length " + length);
+        if (length == 0) return new byte[0];
+
+        // Never trust the declared length for allocation - readNBytes grows as data arrives
+        int first = lookahead >= 0 ? readByte() : -1;
+        int rest = (int) length - (first >= 0 ? 1 : 0);
+        byte[] tail = in.readNBytes(rest);
+        if (tail.length < rest) throw new EOFException("End of input" + locationString());
+        position += tail.length;
+        if (first < 0) return tail;
+
+        byte[] bytes = new byte[(int) length];
+        bytes[0] = (byte) first;
+        System.arraycopy(tail, 0, bytes, 1, tail.length);
+        return bytes;
+    }
+}
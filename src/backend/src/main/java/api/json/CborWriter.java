@@ -0,0 +1,235 @@
+// java/api/json/CborWriter.java
+package api.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link JsonWriter} emitting CBOR (RFC 8949) instead of json text, so any
+ * Gson TypeAdapter can produce a compact binary encoding of the same data.
+ *
+ * <p> Arrays and objects are written with indefinite lengths, so output is
+ * streamed without buffering. Nulls are dropped from objects unless the
+ * writer is configured to serialise them, matching json output.
+ */
+public class CborWriter extends JsonWriter {
+
+    // --- Constants ---
+    // Major types (high 3 bits of the initial byte)
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    // Simple values and markers
+    private static final int INDEFINITE = 31;
+    private static final int FALSE = 0xf4, TRUE = 0xf5, NULL = 0xf6;
+    private static final int FLOAT32 = 0xfa, FLOAT64 = 0xfb;
+    private static final int BREAK = 0xff;
+
+    // --- Attributes ---
+    private final OutputStream out;
+    // Object member name awaiting its value (dropped along with a null value)
+    private String deferredName;
+
+    // Constructor
+    public CborWriter(OutputStream out) {
+        super(Writer.nullWriter());
+        this.out = out;
+    }
+
+    /* ======================================================================
+     * ----------------------------- Structure ------------------------------
+     * ====================================================================== */
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        writeDeferredName();
+        out.write(MAJOR_ARRAY << 5 | INDEFINITE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        out.write(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        writeDeferredName();
+        out.write(MAJOR_MAP << 5 | INDEFINITE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        out.write(BREAK);
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) throw new NullPointerException("name == null");
+        if (deferredName != null) throw new IllegalStateException("Already wrote a name, expecting a value");
+        deferredName = name;
+        return this;
+    }
+
+    /* ======================================================================
+     * ------------------------------- Values -------------------------------
+     * ====================================================================== */
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) return nullValue();
+        writeDeferredName();
+        writeText(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        writeDeferredName();
+        out.write(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        return value((double) value);
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        writeDeferredName();
+        // Integral values take the (shorter) integer encoding
+        if (value == Math.rint(value) && Math.abs(value) < 0x1p53 && !(value == 0 && 1 / value < 0)) {
+            writeLong((long) value);
+        } else if ((float) value == value || Double.isNaN(value)) {
+            out.write(FLOAT32);
+            writeBytes(Float.floatToIntBits((float) value), 4);
+        } else {
+            out.write(FLOAT64);
+            writeBytes(Double.doubleToLongBits(value), 8);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        writeDeferredName();
+        writeLong(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) return nullValue();
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof BigInteger big && big.bitLength() < 64) return value(big.longValue());
+        if (value instanceof BigInteger || value instanceof BigDecimal) {
+            // Arbitrary precision kept as its decimal text
+            return value(value.toString());
+        }
+        return value(value.doubleValue());
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (deferredName != null && !getSerializeNulls()) {
+            // Drop the member entirely, as json output does
+            deferredName = null;
+            return this;
+        }
+        writeDeferredName();
+        out.write(NULL);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        throw new UnsupportedOperationException("Raw json values cannot be written as CBOR");
+    }
+
+    @Override
+    public void flush() throws IOException { out.flush(); }
+
+    @Override
+    public void close() throws IOException { out.close(); }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Write a pending member name, now that its value is known to be present.
+     */
+    private void writeDeferredName() throws IOException {
+        if (deferredName == null) return;
+        String name = deferredName;
+        deferredName = null;
+        writeText(name);
+    }
+
+    /**
+     * Write a UTF-8 text string.
+     */
+    private void writeText(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Write a signed integer as an unsigned or negative integer.
+     */
+    private void writeLong(long value) throws IOException {
+        if (value >= 0) writeHead(MAJOR_UNSIGNED, value);
+        else writeHead(MAJOR_NEGATIVE, -1 - value);
+    }
+
+    /**
+     * Write an initial byte with its argument in the shortest form.
+     */
+    private void writeHead(int major, long arg) throws IOException {
+        int type = major << 5;
+        if (arg < 24) {
+            out.write(type | (int) arg);
+        } else if (arg <= 0xff) {
+            out.write(type | 24);
+            writeBytes(arg, 1);
+        } else if (arg <= 0xffff) {
+            out.write(type | 25);
+            writeBytes(arg, 2);
+        } else if (arg <= 0xffffffffL) {
+            out.write(type | 26);
+            writeBytes(arg, 4);
+        } else {
+            out.write(type | 27);
+            writeBytes(arg, 8);
+        }
+    }
+
+    /**
+     * Write the low {@code count} bytes of a value, big-endian.
+     */
+    private void writeBytes(long value, int count) throws IOException {
+        for (int shift = (count - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xff);
+        }
+    }
+}
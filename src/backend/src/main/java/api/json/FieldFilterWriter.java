@@ -0,0 +1,205 @@
+// java/api/json/FieldFilterWriter.java
+package api.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link JsonWriter} passing output through to another writer (json or
+ * CBOR), keeping only selected members of each record. Records are the
+ * top-level object, or each object of a top-level array; values of kept
+ * members are written in full.
+ *
+ * <p> Used for sparse fieldsets, e.g. {@code ?fields=id,name}.
+ */
+public class FieldFilterWriter extends JsonWriter {
+
+    // --- Attributes ---
+    private final JsonWriter delegate;
+    private final Set<String> fields;
+    private int depth;
+    // Depth of record members, decided by the first container written
+    private int recordDepth = -1;
+    // Depth at which a dropped member's value ends, -1 if not dropping
+    private int skipDepth = -1;
+    // Member name awaiting its value (dropped along with a null value)
+    private String deferredName;
+
+    /**
+     * @param delegate writer receiving the filtered output
+     * @param fields names of record members kept
+     */
+    public FieldFilterWriter(JsonWriter delegate, Set<String> fields) {
+        super(Writer.nullWriter());
+        this.delegate = delegate;
+        this.fields = fields;
+        // Null members are dropped here, along with their deferred name
+        setSerializeNulls(delegate.getSerializeNulls());
+        delegate.setSerializeNulls(true);
+    }
+
+    /* ======================================================================
+     * ----------------------------- Structure ------------------------------
+     * ====================================================================== */
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        if (recordDepth < 0) recordDepth = 2;
+        if (enter()) delegate.beginArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        if (exit()) delegate.endArray();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        if (recordDepth < 0) recordDepth = 1;
+        if (enter()) delegate.beginObject();
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        if (exit()) delegate.endObject();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        if (skipDepth >= 0) return this;
+        if (depth == recordDepth && !fields.contains(name)) {
+            // Drop this member's value, however deep
+            skipDepth = depth;
+            return this;
+        }
+        deferredName = name;
+        return this;
+    }
+
+    /* ======================================================================
+     * ------------------------------- Values -------------------------------
+     * ====================================================================== */
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) return nullValue();
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Boolean value) throws IOException {
+        if (value == null) return nullValue();
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) return nullValue();
+        if (scalar()) delegate.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        if (skipDepth < 0 && deferredName != null && !getSerializeNulls()) {
+            deferredName = null;
+            return this;
+        }
+        if (scalar()) delegate.nullValue();
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(String value) throws IOException {
+        if (value == null) return nullValue();
+        if (scalar()) delegate.jsonValue(value);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException { delegate.flush(); }
+
+    @Override
+    public void close() throws IOException { delegate.close(); }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Open a container.
+     *
+     * @return true if it should be written
+     */
+    private boolean enter() throws IOException {
+        depth++;
+        if (skipDepth >= 0) return false;
+        writeDeferredName();
+        return true;
+    }
+
+    /**
+     * Close a container.
+     *
+     * @return true if it should be written
+     */
+    private boolean exit() {
+        depth--;
+        if (skipDepth < 0) return true;
+        if (depth == skipDepth) skipDepth = -1;
+        return false;
+    }
+
+    /**
+     * Prepare to write a scalar value.
+     *
+     * @return true if it should be written
+     */
+    private boolean scalar() throws IOException {
+        if (skipDepth >= 0) {
+            if (depth == skipDepth) skipDepth = -1;
+            return false;
+        }
+        writeDeferredName();
+        return true;
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredName == null) return;
+        delegate.name(deferredName);
+        deferredName = null;
+    }
+}
@@ -1,23 +1,42 @@
 // java/api/json/JsonUtils.java
 package api.json;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonWriter;
 
-import domain.modifiers.proficiency.Proficiency;
+import api.json.processor.GenerateTypeAdapters;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.ArmourProficiency;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
 
 /**
  * Utility class to provide standardised transformation of domain objects to and
- * from Json String formatting.
+ * from Json String formatting, or the equivalent binary CBOR encoding.
  */
+@GenerateTypeAdapters({
+    Feat.class, Language.class, AbilityScoreModifier.class,
+    ArmourProficiency.class, SkillProficiency.class, ToolProficiency.class
+})
 public class JsonUtils {
 
     // --- Attributes ---
     private final static Gson gson = new GsonBuilder()
         .registerTypeAdapterFactory(new EntityIdAdapterFactory())
-        .registerTypeAdapter(Proficiency.class, new ProficiencyDeserializer())
+        .registerTypeAdapterFactory(new ProficiencyAdapterFactory())
+        // Compile-time generated adapters, in place of reflection
+        .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
         .create();
 
     // Private Constructor (disallow instantiation)
@@ -33,6 +52,59 @@ public class JsonUtils {
         return gson.toJson(src);
     }
 
+    /**
+     * Stream an object as (reversible) json directly into a writer, without
+     * building the full json String in memory. The writer is flushed, but not
+     * closed.
+     *
+     * @param src Object to be exported as json
+     * @param writer destination of the json text, e.g. a servlet response
+     *         writer
+     * @throws IOException on failure to write to {@code writer}
+     */
+    public static void toJson(Object src, Writer writer) throws IOException {
+        write(src, newJsonWriter(writer));
+    }
+
+    /**
+     * Stream an object as a single line of NDJSON (compact json followed by a
+     * newline) into a writer. The writer is not flushed, so that many lines
+     * may share its buffer.
+     *
+     * @param src Object to be exported as json
+     * @param writer destination of the json line
+     * @throws IOException on failure to write to {@code writer}
+     */
+    public static void toJsonLine(Object src, Writer writer) throws IOException {
+        serialise(src, newJsonWriter(writer));
+        writer.write('\n');
+    }
+
+    /**
+     * Stream an object as CBOR directly into an output stream - the binary
+     * equivalent of {@link #toJson(Object, Writer)}. The stream is flushed,
+     * but not closed.
+     *
+     * @param src Object to be exported as CBOR
+     * @param out destination of the CBOR bytes
+     * @throws IOException on failure to write to {@code out}
+     */
+    public static void toCbor(Object src, OutputStream out) throws IOException {
+        write(src, new CborWriter(out));
+    }
+
+    /**
+     * Create a streaming json writer configured like the shared serialiser,
+     * for hand-written output such as small response envelopes.
+     *
+     * @param writer destination of the json text
+     * @return new JsonWriter around {@code writer}
+     * @throws IOException on failure to write to {@code writer}
+     */
+    public static JsonWriter newJsonWriter(Writer writer) throws IOException {
+        return gson.newJsonWriter(writer);
+    }
+
     /**
      * Convert a json String into the relevant class object.
      *
@@ -60,4 +132,48 @@ public class JsonUtils {
     public static <T> T fromJson(Reader json, Class<T> classOfT) {
         return gson.fromJson(json, classOfT);
     }
+
+    /**
+     * Convert a CBOR producing stream into the relevant class object - the
+     * binary equivalent of {@link #fromJson(Reader, Class)}.
+     *
+     * @param <T> type of the the object the CBOR represents
+     * @param cbor the CBOR producing stream from which a type {@code T} object
+     *         is deserialised
+     * @param classOfT {@code .class} of the object to be deserialised
+     * @return instantiated object of type {@code T} with CBOR details.
+     *         Returns null if stream is empty.
+     * @throws JsonSyntaxException if the CBOR is malformed or mistyped
+     */
+    public static <T> T fromCbor(InputStream cbor, Class<T> classOfT) {
+        return gson.fromJson(new CborReader(cbor), classOfT);
+    }
+
+    /**
+     * Stream an object through any JsonWriter, such as a {@link CborWriter}
+     * or {@link FieldFilterWriter}. The writer is flushed, but not closed.
+     *
+     * @param src Object to be exported
+     * @param out destination writer
+     * @throws IOException on failure to write to {@code out}
+     */
+    public static void write(Object src, JsonWriter out) throws IOException {
+        serialise(src, out);
+        out.flush();
+    }
+
+    /**
+     * Private helper to serialise an object through a JsonWriter, without
+     * flushing it.
+     */
+    private static void serialise(Object src, JsonWriter out) throws IOException {
+        try {
+            if (src == null) out.nullValue();
+            else gson.toJson(src, src.getClass(), out);
+        } catch (JsonIOException e) {
+            // Unwrap failures of the underlying writer
+            if (e.getCause() instanceof IOException cause) throw cause;
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,133 @@
+// java/api/json/ProficiencyAdapterFactory.java
+package api.json;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import domain.core.EntityId;
+import domain.modifiers.proficiency.ArmourProficiency;
+import domain.modifiers.proficiency.Proficiency;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
+import domain.types.ArmourType;
+import domain.types.ProficiencyType;
+import domain.types.Skill;
+import domain.types.ToolType;
+
+/**
+ * Google Gson {@link TypeAdapterFactory} for polymorphic (de)serialisation of
+ * {@link Proficiency} declared values.
+ *
+ * <p> Reading is a single streaming pass - every known field is collected as
+ * it is met, and the concrete subclass chosen via {@code proficiencyType} once
+ * the object closes. No intermediate json tree is built, wherever the
+ * discriminator appears. Writing delegates to the runtime subclass.
+ */
+public class ProficiencyAdapterFactory implements TypeAdapterFactory {
+
+    /* ======================================================================
+     * ------------------------- TypeAdapterFactory -------------------------
+     * ====================================================================== */
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        // Only the abstract type - concrete subclasses use default adapters
+        if (typeToken.getRawType() != Proficiency.class) return null;
+        return (TypeAdapter<T>) new ProficiencyAdapter(gson).nullSafe();
+    }
+
+    /* ======================================================================
+     * ---------------------------- TypeAdapter  ----------------------------
+     * ====================================================================== */
+
+    /**
+     * Google Gson {@link TypeAdapter} for {@link Proficiency}. Private for
+     * internal use only - requires TypeAdapterFactory generation.
+     */
+    private static class ProficiencyAdapter extends TypeAdapter<Proficiency> {
+
+        // --- Attributes ---
+        private final Gson gson;
+        private final TypeAdapter<EntityId<Proficiency>> idAdapter;
+
+        // Constructor
+        @SuppressWarnings("unchecked")
+        ProficiencyAdapter(Gson gson) {
+            this.gson = gson;
+            this.idAdapter = (TypeAdapter<EntityId<Proficiency>>) gson.getAdapter(
+                TypeToken.getParameterized(EntityId.class, Proficiency.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, Proficiency value) throws IOException {
+            writeAs(out, value, value.getClass());
+        }
+
+        @Override
+        public Proficiency read(JsonReader in) throws IOException {
+            EntityId<Proficiency> id = null;
+            ProficiencyType proficiencyType = null;
+            // Subclass fields - enums held as names until the subclass is known
+            String skill = null, type = null, name = null, description = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = idAdapter.read(in);
+                    case "proficiencyType" -> proficiencyType = ProficiencyType.fromString(nextString(in));
+                    case "skill" -> skill = nextString(in);
+                    case "type" -> type = nextString(in);
+                    case "name" -> name = nextString(in);
+                    case "description" -> description = nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (proficiencyType == null) {
+                throw new JsonParseException("Proficiency missing proficiencyType at " + in.getPath());
+            }
+
+            Proficiency proficiency = switch (proficiencyType) {
+                case ARMOUR -> new ArmourProficiency(toEnum(type, ArmourType.class));
+                case SKILL -> new SkillProficiency(toEnum(skill, Skill.class));
+                case TOOL -> new ToolProficiency(name, description, toEnum(type, ToolType.class));
+            };
+            if (id != null) proficiency.setId(id);
+            return proficiency;
+        }
+
+        /**
+         * Utility method to write a value using the adapter of its runtime class.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> void writeAs(JsonWriter out, Proficiency value, Class<T> c) throws IOException {
+            gson.getAdapter(c).write(out, (T) value);
+        }
+
+        /**
+         * Utility method to read a nullable String value.
+         */
+        private static String nextString(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            return in.nextString();
+        }
+
+        /**
+         * Utility method to convert an enum name using Gson's own enum mapping.
+         */
+        private <E extends Enum<E>> E toEnum(String value, Class<E> c) {
+            return value == null ? null : gson.getAdapter(c).fromJsonTree(new JsonPrimitive(value));
+        }
+    }
+}
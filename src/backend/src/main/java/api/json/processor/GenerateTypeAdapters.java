@@ -0,0 +1,23 @@
+// java/api/json/processor/GenerateTypeAdapters.java
+package api.json.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests compile-time generation of Google Gson TypeAdapters for the listed
+ * classes, replacing reflective (de)serialisation. Processed by {@link
+ * TypeAdapterProcessor}, which emits a {@code GeneratedTypeAdapterFactory} into
+ * the package of the annotated type.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateTypeAdapters {
+
+    /**
+     * @return concrete classes to generate TypeAdapters for
+     */
+    Class<?>[] value();
+}
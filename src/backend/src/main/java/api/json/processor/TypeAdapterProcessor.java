@@ -0,0 +1,406 @@
+// java/api/json/processor/TypeAdapterProcessor.java
+package api.json.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypesException;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating explicit Google Gson TypeAdapters for the
+ * classes listed by {@link GenerateTypeAdapters}, producing the same json as
+ * Gson's reflective adapters without runtime reflection.
+ *
+ * <p> For each class, all instance fields (own first, then inherited) are:
+ * <ul>
+ *   <li> Written via their public {@code getX()} / {@code isX()} getter -
+ *        called on every serialisation, so getters of generated classes
+ *        should return held values (e.g. immutable lists) rather than copies
+ *   <li> Read via a nested {@code Builder} if present, otherwise the widest
+ *        public constructor - parameters match fields by name, else by type
+ *   <li> Fields not set by construction are applied via a public
+ *        {@code setX()} setter if present, otherwise ignored on read
+ * </ul>
+ */
+@SupportedAnnotationTypes("api.json.processor.GenerateTypeAdapters")
+public class TypeAdapterProcessor extends AbstractProcessor {
+
+    // --- Constants ---
+    private static final String FACTORY_NAME = "GeneratedTypeAdapterFactory";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element annotated : round.getElementsAnnotatedWith(GenerateTypeAdapters.class)) {
+            PackageElement pkg = processingEnv.getElementUtils().getPackageOf(annotated);
+
+            List<TypeElement> targets = new ArrayList<>();
+            for (TypeMirror mirror : listedTypes(annotated.getAnnotation(GenerateTypeAdapters.class))) {
+                targets.add((TypeElement) processingEnv.getTypeUtils().asElement(mirror));
+            }
+
+            try {
+                List<Model> models = new ArrayList<>();
+                for (TypeElement target : targets) { models.add(new Model(target)); }
+                writeFactory(pkg.getQualifiedName().toString(), models, annotated);
+
+            } catch (ModelException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + FACTORY_NAME + ": " + e.getMessage(), annotated);
+            }
+        }
+        return true;
+    }
+
+    /* ======================================================================
+     * ------------------------------- Models -------------------------------
+     * ====================================================================== */
+
+    /**
+     * A serialised property of a generated class.
+     */
+    private static class Property {
+        String name;            // json and field name
+        TypeMirror type;        // resolved field type
+        String getter;          // method writing the property
+        String setter;          // method applying the property after construction
+        String builderMethod;   // Builder method applying the property
+        boolean constructed;    // whether passed to the (Builder) constructor
+    }
+
+    /**
+     * Failure to derive a TypeAdapter for a class.
+     */
+    private static class ModelException extends RuntimeException {
+        final Element element;
+        ModelException(String message, Element element) { super(message); this.element = element; }
+    }
+
+    /**
+     * How a particular class is read and written.
+     */
+    private class Model {
+
+        // --- Attributes ---
+        final TypeElement type;
+        final DeclaredType declared;
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        // Construction - via Builder if non-null
+        TypeElement builder;
+        final List<Property> constructorArgs = new ArrayList<>();
+
+        // Constructor
+        Model(TypeElement type) {
+            this.type = type;
+            this.declared = (DeclaredType) type.asType();
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                throw new ModelException("Cannot generate a TypeAdapter for abstract " + type, type);
+            }
+            collectProperties();
+            resolveConstruction();
+        }
+
+        /**
+         * Collect fields in reflective Gson order - own, then inherited.
+         */
+        private void collectProperties() {
+            TypeElement current = type;
+            while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+                for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                    Set<Modifier> mods = field.getModifiers();
+                    if (mods.contains(Modifier.STATIC) || mods.contains(Modifier.TRANSIENT)) continue;
+
+                    Property p = new Property();
+                    p.name = field.getSimpleName().toString();
+                    p.type = processingEnv.getTypeUtils().asMemberOf(declared, field);
+                    p.getter = findAccessor(type, p, true);
+                    if (p.getter == null) {
+                        throw new ModelException("No public getter for " + type + "." + p.name, field);
+                    }
+                    p.setter = findAccessor(type, p, false);
+                    properties.putIfAbsent(p.name, p);
+                }
+                TypeMirror parent = current.getSuperclass();
+                current = parent.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) processingEnv.getTypeUtils().asElement(parent)
+                    : null;
+            }
+        }
+
+        /**
+         * Choose the Builder, or widest public constructor, to read through.
+         */
+        private void resolveConstruction() {
+            for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+                if (nested.getSimpleName().contentEquals("Builder")
+                    && nested.getModifiers().contains(Modifier.PUBLIC)
+                    && nested.getModifiers().contains(Modifier.STATIC)) {
+                    builder = nested;
+                }
+            }
+
+            TypeElement constructed = builder != null ? builder : type;
+            ExecutableElement widest = null;
+            for (ExecutableElement c : ElementFilter.constructorsIn(constructed.getEnclosedElements())) {
+                if (!c.getModifiers().contains(Modifier.PUBLIC)) continue;
+                if (widest == null || c.getParameters().size() > widest.getParameters().size()) widest = c;
+            }
+            if (widest == null) throw new ModelException("No public constructor for " + constructed, constructed);
+
+            for (VariableElement param : widest.getParameters()) {
+                Property p = matchParameter(param);
+                if (p == null) throw new ModelException("Unmatched constructor parameter " + param, param);
+                p.constructed = true;
+                constructorArgs.add(p);
+            }
+
+            if (builder == null) return;
+            for (ExecutableElement m : ElementFilter.methodsIn(builder.getEnclosedElements())) {
+                Property p = properties.get(m.getSimpleName().toString());
+                if (p != null && !p.constructed && m.getModifiers().contains(Modifier.PUBLIC)
+                    && m.getParameters().size() == 1) {
+                    p.builderMethod = m.getSimpleName().toString();
+                }
+            }
+        }
+
+        /**
+         * Match a constructor parameter to a property by name, else by type.
+         */
+        private Property matchParameter(VariableElement param) {
+            Property byName = properties.get(param.getSimpleName().toString());
+            if (byName != null && !byName.constructed) return byName;
+
+            Property byType = null;
+            for (Property p : properties.values()) {
+                if (p.constructed || !processingEnv.getTypeUtils().isSameType(p.type, param.asType())) continue;
+                // Ambiguous - multiple unmatched properties of this type
+                if (byType != null) return null;
+                byType = p;
+            }
+            return byType;
+        }
+
+        /**
+         * Find a public getter ({@code getX}/{@code isX}) or setter ({@code setX}).
+         */
+        private String findAccessor(TypeElement owner, Property p, boolean getter) {
+            String suffix = Character.toUpperCase(p.name.charAt(0)) + p.name.substring(1);
+            for (ExecutableElement m : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+                if (!m.getModifiers().contains(Modifier.PUBLIC) || m.getModifiers().contains(Modifier.STATIC)) continue;
+                String name = m.getSimpleName().toString();
+                if (getter && m.getParameters().isEmpty()
+                    && (name.equals("get" + suffix) || name.equals("is" + suffix))) {
+                    return name;
+                }
+                if (!getter && m.getParameters().size() == 1 && name.equals("set" + suffix)) {
+                    return name;
+                }
+            }
+            return null;
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------------ Emission ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Write the factory source, with one nested TypeAdapter per model.
+     */
+    private void writeFactory(String pkg, List<Model> models, Element origin) throws IOException {
+        StringBuilder src = new StringBuilder();
+        src.append("// Generated by ").append(getClass().getName()).append(" - do not edit\n")
+            .append("package ").append(pkg).append(";\n\n")
+            .append("import java.io.IOException;\n\n")
+            .append("import com.google.gson.Gson;\n")
+            .append("import com.google.gson.TypeAdapter;\n")
+            .append("import com.google.gson.TypeAdapterFactory;\n")
+            .append("import com.google.gson.reflect.TypeToken;\n")
+            .append("import com.google.gson.stream.JsonReader;\n")
+            .append("import com.google.gson.stream.JsonToken;\n")
+            .append("import com.google.gson.stream.JsonWriter;\n\n")
+            .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(FACTORY_NAME).append(" implements TypeAdapterFactory {\n\n")
+            .append("    @SuppressWarnings(\"unchecked\")\n")
+            .append("    @Override\n")
+            .append("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {\n")
+            .append("        Class<? super T> raw = typeToken.getRawType();\n");
+        for (Model m : models) {
+            src.append("        if (raw == ").append(m.type.getQualifiedName()).append(".class) ")
+                .append("return (TypeAdapter<T>) new ").append(adapterName(m)).append("(gson);\n");
+        }
+        src.append("        return null;\n    }\n");
+
+        for (Model m : models) { writeAdapter(src, m); }
+        src.append("}\n");
+
+        try (Writer out = processingEnv.getFiler().createSourceFile(pkg + "." + FACTORY_NAME, origin).openWriter()) {
+            out.write(src.toString());
+        }
+    }
+
+    /**
+     * Append a nested TypeAdapter for one model.
+     */
+    private void writeAdapter(StringBuilder src, Model m) {
+        String typeName = m.type.getQualifiedName().toString();
+        String adapter = adapterName(m);
+
+        src.append("\n    private static final class ").append(adapter)
+            .append(" extends TypeAdapter<").append(typeName).append("> {\n\n");
+
+        // Field adapters, resolved once
+        for (Property p : m.properties.values()) {
+            src.append("        private final TypeAdapter<").append(boxed(p.type)).append("> ")
+                .append(p.name).append("Adapter;\n");
+        }
+        src.append("\n        ").append(adapter).append("(Gson gson) {\n");
+        for (Property p : m.properties.values()) {
+            src.append("            this.").append(p.name).append("Adapter = gson.getAdapter(new TypeToken<")
+                .append(boxed(p.type)).append(">() {});\n");
+        }
+        src.append("        }\n");
+
+        // Write
+        src.append("\n        @Override\n")
+            .append("        public void write(JsonWriter out, ").append(typeName).append(" value) throws IOException {\n")
+            .append("            if (value == null) { out.nullValue(); return; }\n")
+            .append("            out.beginObject();\n");
+        for (Property p : m.properties.values()) {
+            src.append("            out.name(\"").append(p.name).append("\");\n")
+                .append("            ").append(p.name).append("Adapter.write(out, value.")
+                .append(p.getter).append("());\n");
+        }
+        src.append("            out.endObject();\n        }\n");
+
+        // Read - collect every property, then construct
+        src.append("\n        @Override\n")
+            .append("        public ").append(typeName).append(" read(JsonReader in) throws IOException {\n")
+            .append("            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }\n");
+        for (Property p : m.properties.values()) {
+            if (!isApplied(p)) continue;
+            src.append("            ").append(p.type).append(" ").append(local(p)).append(" = ")
+                .append(defaultValue(p.type)).append(";\n");
+        }
+        src.append("\n            in.beginObject();\n")
+            .append("            while (in.hasNext()) {\n")
+            .append("                switch (in.nextName()) {\n");
+        for (Property p : m.properties.values()) {
+            if (!isApplied(p)) continue;
+            src.append("                    case \"").append(p.name).append("\" -> ");
+            if (p.type.getKind().isPrimitive()) {
+                // Reflective Gson leaves primitives at their default on null
+                src.append("{ ").append(boxed(p.type)).append(" v = ").append(p.name).append("Adapter.read(in); ")
+                    .append("if (v != null) ").append(local(p)).append(" = v; }\n");
+            } else {
+                src.append(local(p)).append(" = ").append(p.name).append("Adapter.read(in);\n");
+            }
+        }
+        src.append("                    default -> in.skipValue();\n")
+            .append("                }\n")
+            .append("            }\n")
+            .append("            in.endObject();\n\n");
+
+        StringBuilder args = new StringBuilder();
+        for (Property p : m.constructorArgs) {
+            if (args.length() > 0) args.append(", ");
+            args.append(local(p));
+        }
+        if (m.builder != null) {
+            String builderName = m.builder.getQualifiedName().toString();
+            src.append("            ").append(builderName).append(" builder = new ").append(builderName)
+                .append("(").append(args).append(");\n");
+            for (Property p : m.properties.values()) {
+                if (p.builderMethod == null) continue;
+                src.append("            if (").append(local(p)).append(" != null) builder.")
+                    .append(p.builderMethod).append("(").append(local(p)).append(");\n");
+            }
+            src.append("            ").append(typeName).append(" value = builder.build();\n");
+        } else {
+            src.append("            ").append(typeName).append(" value = new ").append(typeName)
+                .append("(").append(args).append(");\n");
+        }
+        for (Property p : m.properties.values()) {
+            if (p.constructed || p.builderMethod != null || p.setter == null) continue;
+            src.append("            if (").append(local(p)).append(" != null) value.")
+                .append(p.setter).append("(").append(local(p)).append(");\n");
+        }
+        src.append("            return value;\n        }\n    }\n");
+    }
+
+    /* -------------------------- Utility  Methods -------------------------- */
+
+    /**
+     * @return true if a property read from json is applied to the result
+     */
+    private static boolean isApplied(Property p) {
+        return p.constructed || p.builderMethod != null || p.setter != null;
+    }
+
+    private static String adapterName(Model m) { return m.type.getSimpleName() + "Adapter"; }
+
+    private static String local(Property p) { return "_" + p.name; }
+
+    /**
+     * Utility method to name a type usable as a generic argument.
+     */
+    private String boxed(TypeMirror t) {
+        if (!t.getKind().isPrimitive()) return t.toString();
+        return processingEnv.getTypeUtils().boxedClass((PrimitiveType) t).getQualifiedName().toString();
+    }
+
+    /**
+     * Utility method to give the default value of a type, as source.
+     */
+    private static String defaultValue(TypeMirror t) {
+        return switch (t.getKind()) {
+            case BOOLEAN -> "false";
+            case INT -> "0";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            // Narrower than int - literal needs a cast
+            case BYTE, SHORT, CHAR -> "(" + t + ") 0";
+            default -> "null";
+        };
+    }
+
+    /**
+     * Utility method to read the class list of an annotation without loading
+     * the (possibly uncompiled) classes themselves.
+     */
+    private static List<? extends TypeMirror> listedTypes(GenerateTypeAdapters annotation) {
+        try {
+            annotation.value();
+            throw new IllegalStateException("Expected MirroredTypesException");
+        } catch (MirroredTypesException e) {
+            return e.getTypeMirrors();
+        }
+    }
+}
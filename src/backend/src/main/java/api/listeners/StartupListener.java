@@ -0,0 +1,39 @@
+// java/api/listeners/StartupListener.java
+package api.listeners;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+import api.async.AsyncDispatcher;
+import api.async.EventStream;
+import api.controllers.ControllerRegistry;
+import datasource.Database;
+import services.catalog.RulesCatalog;
+
+/**
+ * Deployment lifecycle hooks. Starts the background {@link Warmup} (loading
+ * the {@link RulesCatalog}) when the web application starts so that the first
+ * requests do not pay for it, and releases the async worker pool, open event
+ * streams and pooled {@link Database} connections on shutdown.
+ */
+@WebListener
+public class StartupListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        // Compile API routes before the first request arrives
+        ControllerRegistry.getRoutes();
+        // Hook into catalog commits before the first one
+        RulesCatalog.init();
+        // Progress reported via the readiness check (/api/ready)
+        Warmup.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        AsyncDispatcher.shutdown();
+        EventStream.shutdown();
+        Database.shutdown();
+    }
+}
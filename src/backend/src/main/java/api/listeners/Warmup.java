@@ -0,0 +1,139 @@
+// java/api/listeners/Warmup.java
+package api.listeners;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import api.json.JsonUtils;
+import config.Env;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.Proficiency;
+import domain.types.ProficiencyType;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
+
+/**
+ * Utility class to warm the application up at deploy time, in the background:
+ *
+ * <ul>
+ *   <li> Load the {@link RulesCatalog} in parallel, each read on its own
+ *        pooled connection sharing one transaction snapshot
+ *   <li> Prime {@link JsonUtils} type adapters by round-tripping catalog content
+ *   <li> Build the catalog search index
+ * </ul>
+ *
+ * Progress is exposed for the readiness check, so traffic is only routed once
+ * request latency is at steady state.
+ */
+public class Warmup {
+
+    /**
+     * Warm-up lifecycle.
+     */
+    public enum State { PENDING, WARMING, READY, FAILED }
+
+    // --- Constants ---
+    private static final int DEFAULT_THREADS = 4;
+    // Catalog reads, plus one step for JSON priming and indexing
+    private static final int TOTAL_STEPS = RulesCatalog.LOAD_STEPS + 1;
+
+    // --- Attributes ---
+    private static volatile State state = State.PENDING;
+    private static final AtomicInteger completed = new AtomicInteger();
+
+    // Private Constructor (disallow instantiation)
+    private Warmup() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Begin warming up on a background thread. Has no effect if already started.
+     */
+    public static synchronized void start() {
+        if (state != State.PENDING) return;
+        state = State.WARMING;
+
+        Thread thread = new Thread(Warmup::run, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // --- Progress ---
+    public static State getState() { return state; }
+    public static int getCompleted() { return completed.get(); }
+    public static int getTotal() { return TOTAL_STEPS; }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Perform all warm-up steps, recording the outcome.
+     */
+    private static void run() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(readThreads(), r -> {
+            Thread t = new Thread(r, "warmup-loader");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            CatalogSnapshot snapshot = RulesCatalog.load(executor, completed::incrementAndGet);
+            primeJson(snapshot);
+            snapshot.getSearchIndex();
+            completed.incrementAndGet();
+
+            state = State.READY;
+            System.out.printf("Warm-up complete in %d ms.%n", (System.nanoTime() - start) / 1_000_000);
+
+        } catch (RuntimeException e) {
+            // Do not fail deployment - catalog loads lazily on first request
+            state = State.FAILED;
+            System.err.println("Warm-up failed: " + e.getMessage());
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Serialise each catalog list, and deserialise a sample of each type, so
+     * Gson builds and caches every reflective adapter before live traffic.
+     */
+    private static void primeJson(CatalogSnapshot snapshot) {
+        JsonUtils.toJson(snapshot.getFeatSummaries());
+        prime(snapshot.getFeats(), Feat.class);
+        prime(snapshot.getLanguages(), Language.class);
+        prime(snapshot.getAsms(), AbilityScoreModifier.class);
+        for (ProficiencyType type : ProficiencyType.values()) {
+            prime(snapshot.getProficiencies(type), Proficiency.class);
+        }
+    }
+
+    /**
+     * Utility method to round-trip a list and its first element through Json.
+     */
+    private static void prime(List<?> list, Class<?> classOfT) {
+        JsonUtils.toJson(list);
+        if (list.isEmpty()) return;
+        JsonUtils.fromJson(JsonUtils.toJson(list.get(0)), classOfT);
+    }
+
+    /**
+     * Read configured loader thread count, falling back to the default if
+     * unset or invalid.
+     */
+    private static int readThreads() {
+        String value = Env.get("WARMUP_THREADS");
+        if (value == null || value.isBlank()) return DEFAULT_THREADS;
+        try { return Math.max(1, Integer.parseInt(value.trim())); }
+        catch (NumberFormatException e) { return DEFAULT_THREADS; }
+    }
+}
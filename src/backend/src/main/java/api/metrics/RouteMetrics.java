@@ -0,0 +1,293 @@
+// java/api/metrics/RouteMetrics.java
+package api.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Utility class recording per-route request metrics, exposed in the Prometheus
+ * text exposition format:
+ *
+ * <ul>
+ *   <li> {@code http_requests_total} - requests by route, method and status
+ *   <li> {@code http_request_errors_total} - requests failing with a 5xx
+ *   <li> {@code http_request_duration_seconds} - latency histogram
+ *   <li> {@code http_request_duration_quantile_seconds} - p50/p95/p99
+ *        estimated from the histogram
+ * </ul>
+ *
+ * Requests are labelled by route template (e.g. {@code /feat/{id:long}}), not
+ * by path, so the number of series stays bounded. Recording is lock-free -
+ * each series is a set of {@link LongAdder}s, which stripe contended updates.
+ *
+ * <ul>
+ *   <li> Record a request via {@link #record(String, String, int, long)}, or
+ *        once complete via {@link #onComplete(String, String, long, HttpServletResponse)}
+ *   <li> Write all metrics via {@link #write(Writer)}
+ * </ul>
+ */
+public class RouteMetrics {
+
+    // --- Constants ---
+    // Route label for requests matching no route
+    public static final String UNMATCHED = "unmatched";
+    // Histogram upper bounds, in seconds - written as is for the `le` label
+    private static final String[] BUCKETS = {
+        "0.0005", "0.001", "0.0025", "0.005", "0.01", "0.025", "0.05",
+        "0.1", "0.25", "0.5", "1", "2.5", "5", "10"
+    };
+    private static final long[] BUCKET_NANOS = new long[BUCKETS.length];
+    private static final double[] QUANTILES = { 0.5, 0.95, 0.99 };
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+    private static final Comparator<Series> ORDER =
+        Comparator.comparing(Series::route).thenComparing(Series::method);
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            BUCKET_NANOS[i] = (long) (Double.parseDouble(BUCKETS[i]) * 1_000_000_000L);
+        }
+    }
+
+    /**
+     * Labels identifying a timed series.
+     */
+    private record Series(String route, String method) {}
+
+    /**
+     * Labels identifying a status counter.
+     */
+    private record StatusSeries(Series series, int status) {}
+
+    // --- Attributes ---
+    private static final Map<Series, Timer> timers = new ConcurrentHashMap<>();
+    private static final Map<StatusSeries, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    // Private Constructor (disallow instantiation)
+    private RouteMetrics() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Record a completed request.
+     *
+     * @param method HTTP method of the request
+     * @param route route template matched, or {@link #UNMATCHED}
+     * @param status HTTP status code responded with
+     * @param nanos time taken to serve the request
+     */
+    public static void record(String method, String route, int status, long nanos) {
+        Series series = new Series(route, METHODS.contains(method) ? method : "OTHER");
+        timers.computeIfAbsent(series, s -> new Timer()).record(nanos, status >= 500);
+        statuses.computeIfAbsent(new StatusSeries(series, status), s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Build a listener recording an asynchronous request once it completes.
+     *
+     * @param method HTTP method of the request
+     * @param route route template matched
+     * @param start {@link System#nanoTime()} the request arrived at
+     * @param resp response the status is read from
+     * @return {@link AsyncListener} to add to the request's async context
+     */
+    public static AsyncListener onComplete(String method, String route, long start, HttpServletResponse resp) {
+        return new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                record(method, route, resp.getStatus(), System.nanoTime() - start);
+            }
+            @Override public void onTimeout(AsyncEvent event) {}
+            @Override public void onError(AsyncEvent event) {}
+            @Override public void onStartAsync(AsyncEvent event) {}
+        };
+    }
+
+    /**
+     * Write all metrics recorded so far in the Prometheus text format.
+     *
+     * @param out destination written to (not flushed)
+     * @throws IOException
+     */
+    public static void write(Writer out) throws IOException {
+        // Stable ordering, and a consistent view of each timer
+        Map<Series, Timer.Snapshot> snapshots = new TreeMap<>(ORDER);
+        timers.forEach((series, timer) -> snapshots.put(series, timer.snapshot()));
+
+        Map<StatusSeries, Long> counts = new TreeMap<>(
+            Comparator.comparing(StatusSeries::series, ORDER).thenComparingInt(StatusSeries::status));
+        statuses.forEach((series, count) -> counts.put(series, count.sum()));
+
+        header(out, "http_requests_total", "counter", "Requests served, by route, method and status code.");
+        for (Map.Entry<StatusSeries, Long> e : counts.entrySet()) {
+            line(out, "http_requests_total", e.getKey().series(), "status",
+                Integer.toString(e.getKey().status()), Long.toString(e.getValue()));
+        }
+
+        header(out, "http_request_errors_total", "counter", "Requests failing with a server error (5xx), by route and method.");
+        for (Map.Entry<Series, Timer.Snapshot> e : snapshots.entrySet()) {
+            line(out, "http_request_errors_total", e.getKey(), null, null, Long.toString(e.getValue().errors()));
+        }
+
+        header(out, "http_request_duration_seconds", "histogram", "Request latency, by route and method.");
+        for (Map.Entry<Series, Timer.Snapshot> e : snapshots.entrySet()) {
+            Timer.Snapshot snapshot = e.getValue();
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                cumulative += snapshot.buckets()[i];
+                line(out, "http_request_duration_seconds_bucket", e.getKey(), "le", BUCKETS[i], Long.toString(cumulative));
+            }
+            line(out, "http_request_duration_seconds_bucket", e.getKey(), "le", "+Inf", Long.toString(snapshot.count()));
+            line(out, "http_request_duration_seconds_sum", e.getKey(), null, null, Double.toString(snapshot.sumNanos() / 1e9));
+            line(out, "http_request_duration_seconds_count", e.getKey(), null, null, Long.toString(snapshot.count()));
+        }
+
+        header(out, "http_request_duration_quantile_seconds", "gauge", "Request latency quantiles, estimated from the histogram.");
+        for (Map.Entry<Series, Timer.Snapshot> e : snapshots.entrySet()) {
+            for (double q : QUANTILES) {
+                line(out, "http_request_duration_quantile_seconds", e.getKey(), "quantile", Double.toString(q),
+                    Double.toString(e.getValue().quantile(q)));
+            }
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------------- Timer -------------------------------
+     * ====================================================================== */
+
+    /**
+     * Latency histogram, count and error count of one series. Updates are
+     * lock-free; reads sum each adder, so are only approximately consistent
+     * with concurrent updates.
+     */
+    private static final class Timer {
+
+        /**
+         * Point-in-time read of a timer.
+         *
+         * @param buckets non-cumulative count per bucket, excluding overflow
+         */
+        private record Snapshot(long count, long errors, long sumNanos, long[] buckets) {
+
+            /**
+             * Estimate a quantile by linear interpolation within the bucket
+             * containing it, as Prometheus' {@code histogram_quantile} does.
+             *
+             * @return estimated quantile in seconds, or NaN if nothing recorded
+             */
+            double quantile(double q) {
+                if (count == 0) return Double.NaN;
+                double rank = q * count;
+                long cumulative = 0;
+                for (int i = 0; i < buckets.length; i++) {
+                    if (cumulative + buckets[i] >= rank && buckets[i] > 0) {
+                        double lower = i == 0 ? 0 : BUCKET_NANOS[i - 1];
+                        double upper = BUCKET_NANOS[i];
+                        return (lower + (upper - lower) * (rank - cumulative) / buckets[i]) / 1e9;
+                    }
+                    cumulative += buckets[i];
+                }
+                // Beyond the largest bound - report the bound itself
+                return BUCKET_NANOS[BUCKET_NANOS.length - 1] / 1e9;
+            }
+        }
+
+        // --- Attributes ---
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder sumNanos = new LongAdder();
+        // One adder per bucket, plus overflow
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+
+        // Constructor
+        private Timer() {
+            for (int i = 0; i < buckets.length; i++) { buckets[i] = new LongAdder(); }
+        }
+
+        private void record(long nanos, boolean error) {
+            int i = 0;
+            while (i < BUCKET_NANOS.length && nanos > BUCKET_NANOS[i]) { i++; }
+            buckets[i].increment();
+            sumNanos.add(nanos);
+            if (error) errors.increment();
+            count.increment();
+        }
+
+        private Snapshot snapshot() {
+            long[] counts = new long[BUCKETS.length];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+            total += buckets[BUCKETS.length].sum();
+            // Count derived from buckets, so the histogram is self-consistent
+            return new Snapshot(total, errors.sum(), sumNanos.sum(), counts);
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------------- Output -------------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to write the HELP and TYPE lines of a metric family.
+     */
+    private static void header(Writer out, String name, String type, String help) throws IOException {
+        out.write("# HELP " + name + " " + help + "\n");
+        out.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    /**
+     * Utility method to write a full sample line, with an optional extra
+     * label.
+     */
+    private static void line(Writer out, String name, Series series, String label, String labelValue, String value)
+        throws IOException
+    {
+        sample(out, name, series, label, labelValue);
+        out.write(' ');
+        out.write(value);
+        out.write('\n');
+    }
+
+    /**
+     * Utility method to write a sample's name and labels.
+     */
+    private static void sample(Writer out, String name, Series series, String label, String labelValue)
+        throws IOException
+    {
+        out.write(name);
+        out.write("{route=\"");
+        out.write(escape(series.route()));
+        out.write("\",method=\"");
+        out.write(series.method());
+        out.write('"');
+        if (label != null) {
+            out.write(',');
+            out.write(label);
+            out.write("=\"");
+            out.write(labelValue);
+            out.write('"');
+        }
+        out.write('}');
+    }
+
+    /**
+     * Utility method to escape a label value.
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,219 @@
+// java/api/ratelimit/RateLimiter.java
+package api.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import config.Env;
+
+/**
+ * Utility class limiting the rate at which each client may make API requests,
+ * so one client polling in a loop cannot starve everyone else of the database
+ * connection pool.
+ *
+ * <p> Each client has a token bucket refilled at {@code RATE_LIMIT_PER_SECOND}
+ * tokens a second, holding at most {@code RATE_LIMIT_BURST}. Each request
+ * takes tokens according to its route's cost:
+ *
+ * <ul>
+ *   <li> As configured via {@code RATE_LIMIT_COSTS}, e.g. {@code
+ *        "GET /export=10,POST /feat/bulk=20"} - a cost of 0 exempts a route
+ *   <li> Otherwise 1 for reads ({@code GET}/{@code HEAD}), 5 for writes
+ * </ul>
+ *
+ * Clients are identified by remote address, or by {@code
+ * RATE_LIMIT_CLIENT_HEADER} (e.g. an API key header, or a forwarding header
+ * set by a trusted proxy) where configured and present.
+ *
+ * <p> Buckets are lock-free and held in a bounded map; full buckets are
+ * indistinguishable from new ones, so are dropped whenever room is needed.
+ * Should every slot hold a client still being limited, further new clients
+ * share a single overflow bucket.
+ *
+ * <ul>
+ *   <li> Take tokens for a request via {@link #acquire(HttpServletRequest, String)}
+ * </ul>
+ */
+public class RateLimiter {
+
+    // --- Constants ---
+    private static final long DEFAULT_PER_SECOND = 20;
+    private static final long DEFAULT_BURST = 40;
+    private static final int READ_COST = 1;
+    private static final int WRITE_COST = 5;
+    private static final String DEFAULT_COSTS = String.join(",",
+        "GET /ready=0", "GET /admin/metrics=0", "GET /bundle=3", "GET /export=10",
+        "POST /asm/bulk=20", "POST /feat/bulk=20", "POST /language/bulk=20", "POST /proficiency/bulk=20"
+    );
+    // Most clients tracked at once, and longest client key kept
+    private static final int MAX_CLIENTS = 10_000;
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private static final long PER_SECOND = readLong("RATE_LIMIT_PER_SECOND", DEFAULT_PER_SECOND);
+    private static final long BURST = Math.max(1, readLong("RATE_LIMIT_BURST", DEFAULT_BURST));
+    // Time to earn one token, and the most a bucket may run ahead by
+    private static final long INTERVAL_NANOS = PER_SECOND > 0 ? TimeUnit.SECONDS.toNanos(1) / PER_SECOND : 0;
+    private static final long CAPACITY_NANOS = BURST * INTERVAL_NANOS;
+    private static final Map<String, Integer> COSTS = readCosts();
+    private static final String CLIENT_HEADER = Env.get("RATE_LIMIT_CLIENT_HEADER");
+
+    // --- Attributes ---
+    private static final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private static final TokenBucket overflow = new TokenBucket();
+
+    // Private Constructor (disallow instantiation)
+    private RateLimiter() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Take the tokens a request costs from its client's bucket.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param route route template the request matched
+     * @return 0 if the request may proceed, else the whole seconds until it
+     *         could (for {@code Retry-After})
+     */
+    public static long acquire(HttpServletRequest req, String route) {
+        if (INTERVAL_NANOS == 0) return 0;
+
+        int cost = cost(req.getMethod(), route);
+        if (cost == 0) return 0;
+
+        long now = System.nanoTime();
+        long wait = bucketFor(clientKey(req), now).tryAcquire(Math.min(cost, BURST), now);
+        return wait == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /* ======================================================================
+     * -------------------------------- Bucket ------------------------------
+     * ====================================================================== */
+
+    /**
+     * A token bucket held as a single timestamp - the time at which it will
+     * next be full (the generic cell rate algorithm). Taking {@code n} tokens
+     * pushes that time {@code n} intervals later; a request is refused if it
+     * would push it more than a full bucket ahead of now. Updated by CAS.
+     */
+    private static final class TokenBucket {
+
+        // --- Attributes ---
+        private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * @return 0 if the tokens were taken, else nanoseconds until they
+         *         could be
+         */
+        private long tryAcquire(long tokens, long now) {
+            for (;;) {
+                long current = fullAt.get();
+                long next = (isFull(current, now) ? now : current) + tokens * INTERVAL_NANOS;
+                long excess = next - now - CAPACITY_NANOS;
+                if (excess > 0) return excess;
+                if (fullAt.compareAndSet(current, next)) return 0;
+            }
+        }
+
+        private boolean isFull(long now) { return isFull(fullAt.get(), now); }
+
+        private static boolean isFull(long fullAt, long now) {
+            return fullAt == Long.MIN_VALUE || fullAt - now <= 0;
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Retrieve (or create) the bucket for a client, making room if needed.
+     */
+    private static TokenBucket bucketFor(String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) return bucket;
+
+        if (buckets.size() >= MAX_CLIENTS) {
+            // Full buckets hold no state worth keeping
+            buckets.values().removeIf(b -> b.isFull(now));
+            if (buckets.size() >= MAX_CLIENTS) return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket());
+    }
+
+    /**
+     * Utility method to identify the client making a request.
+     */
+    private static String clientKey(HttpServletRequest req) {
+        if (CLIENT_HEADER != null && !CLIENT_HEADER.isBlank()) {
+            String value = req.getHeader(CLIENT_HEADER.trim());
+            if (value != null) {
+                // Forwarding headers list the original client first
+                int comma = value.indexOf(',');
+                value = (comma < 0 ? value : value.substring(0, comma)).trim();
+                if (!value.isEmpty()) {
+                    return "h:" + (value.length() > MAX_KEY_LENGTH ? value.substring(0, MAX_KEY_LENGTH) : value);
+                }
+            }
+        }
+        return "a:" + req.getRemoteAddr();
+    }
+
+    /**
+     * Utility method to look up the cost of a request.
+     */
+    private static int cost(String method, String route) {
+        Integer cost = COSTS.get(method + " " + route);
+        if (cost != null) return cost;
+        return method.equals("GET") || method.equals("HEAD") ? READ_COST : WRITE_COST;
+    }
+
+    /**
+     * Read configured route costs over the defaults, skipping invalid entries.
+     */
+    private static Map<String, Integer> readCosts() {
+        Map<String, Integer> costs = new HashMap<>();
+        parseCosts(DEFAULT_COSTS, costs);
+        String value = Env.get("RATE_LIMIT_COSTS");
+        if (value != null) parseCosts(value, costs);
+        return Map.copyOf(costs);
+    }
+
+    /**
+     * Utility method to parse {@code "METHOD /route=cost"} entries.
+     */
+    private static void parseCosts(String value, Map<String, Integer> costs) {
+        for (String entry : value.split(",")) {
+            int eq = entry.lastIndexOf('=');
+            if (eq < 0) continue;
+
+            String[] parts = entry.substring(0, eq).trim().split("\\s+");
+            if (parts.length != 2) {
+                System.err.println("Ignoring invalid rate limit cost: " + entry.trim());
+                continue;
+            }
+            try {
+                costs.put(parts[0].toUpperCase() + " " + parts[1], Math.max(0, Integer.parseInt(entry.substring(eq + 1).trim())));
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring invalid rate limit cost: " + entry.trim());
+            }
+        }
+    }
+
+    /**
+     * Read a configured number, falling back to the default if unset or
+     * invalid.
+     */
+    private static long readLong(String key, long fallback) {
+        String value = Env.get(key);
+        if (value == null || value.isBlank()) return fallback;
+        try { return Math.max(0, Long.parseLong(value.trim())); }
+        catch (NumberFormatException e) { return fallback; }
+    }
+}
@@ -0,0 +1,62 @@
+// java/api/routing/PathParams.java
+package api.routing;
+
+/**
+ * Path parameters captured while matching a {@link RouteTable} template, e.g.
+ * {@code id} of {@code /feat/{id:long}}. Values are parsed once, at match
+ * time, to the type declared in the template. Immutable.
+ */
+public final class PathParams {
+
+    // --- Constants ---
+    public static final PathParams EMPTY = new PathParams(new String[0], new Object[0]);
+
+    // --- Attributes ---
+    // Parallel arrays, in template order
+    private final String[] names;
+    private final Object[] values;
+
+    // Constructor (package-private - built by RouteTable)
+    PathParams(String[] names, Object[] values) {
+        this.names = names;
+        this.values = values;
+    }
+
+    /* ======================================================================
+     * ------------------------------ Getters  ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Getter: Retrieve a {@code {name:long}} parameter.
+     *
+     * @param name parameter name, as declared in the template
+     * @return parsed value
+     * @throws IllegalArgumentException if no such long parameter was captured
+     */
+    public long getLong(String name) {
+        if (get(name) instanceof Long value) return value;
+        throw new IllegalArgumentException("No long path parameter `" + name + "`");
+    }
+
+    /**
+     * Getter: Retrieve a parameter of any type, as its String form.
+     *
+     * @param name parameter name, as declared in the template
+     * @return value, or null if no such parameter was captured
+     */
+    public String getString(String name) {
+        Object value = get(name);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Private helper to find a parameter value by name - there are only ever
+     * a handful, so a scan beats hashing.
+     */
+    private Object get(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return values[i];
+        }
+        return null;
+    }
+}
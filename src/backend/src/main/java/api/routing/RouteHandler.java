@@ -0,0 +1,22 @@
+// java/api/routing/RouteHandler.java
+package api.routing;
+
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * A {@link FunctionalInterface} defining the contract for handlers of a single
+ * routed endpoint, e.g. {@code GET /feat/{id:long}}.
+ */
+@FunctionalInterface
+public interface RouteHandler {
+    /**
+     * @param params path parameters, already parsed to their declared types
+     * @param req {@link HttpServletRequest} object received from API call
+     * @param resp {@link HttpServletResponse} object configured for API report
+     * @throws IOException
+     */
+    void handle(PathParams params, HttpServletRequest req, HttpServletResponse resp) throws IOException;
+}
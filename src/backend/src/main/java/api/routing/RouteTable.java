@@ -0,0 +1,289 @@
+// java/api/routing/RouteTable.java
+package api.routing;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import api.utils.NumberUtils;
+
+/**
+ * A table of API endpoints, compiled once into a trie of path segments, so a
+ * request path is matched in a single pass - without splitting or copying it.
+ *
+ * <p> Templates are {@code '/'} separated segments, each of which is either:
+ * <ul>
+ *   <li> A literal, e.g. {@code feat}
+ *   <li> A long parameter, e.g. {@code {id:long}}
+ *   <li> A String parameter, e.g. {@code {type}} - matches any non-empty
+ *        segment
+ * </ul>
+ *
+ * At each segment, literals are tried before long parameters, then String
+ * parameters; if the rest of the path then fails to match, the next option
+ * is tried.
+ *
+ * <ul>
+ *   <li> Declare routes via {@link Builder}, e.g. {@code
+ *        new RouteTable.Builder().get("/feat/{id:long}", handler).build()}
+ *   <li> Match requests via {@link #match(String, String)}
+ * </ul>
+ */
+public final class RouteTable {
+
+    /**
+     * Outcome of matching a request path.
+     *
+     * @param handler handler for the request method, or null if the path is
+     *        routed but not for that method
+     * @param params parsed path parameters
+     * @param allowed methods routed for the path
+     * @param route template the path matched, e.g. {@code "/feat/{id:long}"}
+     * @param streaming true if the handler holds the response open, writing to
+     *        it asynchronously itself
+     */
+    public record Match(
+        RouteHandler handler, PathParams params, Set<String> allowed, String route, boolean streaming
+    ) {}
+
+    // --- Attributes ---
+    private final Node root;
+
+    // Private Constructor (use Builder)
+    private RouteTable(Node root) { this.root = root; }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Match a request against the table. A trailing {@code '/'} is ignored.
+     *
+     * @param method HTTP method, e.g. {@code "GET"}
+     * @param path request path, starting with {@code '/'}
+     * @return {@link Match} for the path, or null if no route matches it
+     */
+    public Match match(String method, String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') return null;
+        int end = path.length();
+        if (end > 1 && path.charAt(end - 1) == '/') end--;
+
+        Object[] values = new Object[root.maxParams];
+        Node node = find(root, path, 1, end, values, 0);
+        if (node == null) return null;
+
+        PathParams params = node.paramNames.length == 0
+            ? PathParams.EMPTY
+            : new PathParams(node.paramNames, Arrays.copyOf(values, node.paramNames.length));
+        return new Match(
+            node.handlers.get(method), params, node.handlers.keySet(), node.template, node.streaming.contains(method)
+        );
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Recursively match the remaining path from {@code start}, capturing
+     * parameter values into {@code values}.
+     *
+     * @return routed node the full path leads to, or null if none
+     */
+    private static Node find(Node node, String path, int start, int end, Object[] values, int n) {
+        // Whole path consumed
+        if (start > end) return node.handlers.isEmpty() ? null : node;
+
+        int segEnd = path.indexOf('/', start);
+        if (segEnd < 0 || segEnd > end) segEnd = end;
+        int length = segEnd - start;
+
+        // 1. Literal segment
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && path.regionMatches(start, literal, 0, length)) {
+                Node found = find(node.literalNodes[i], path, segEnd + 1, end, values, n);
+                if (found != null) return found;
+                break;
+            }
+        }
+
+        // 2. Long parameter - validated without exceptions before parsing
+        if (node.longParam != null && NumberUtils.isLong(path, start, segEnd)) {
+            values[n] = Long.parseLong(path, start, segEnd, 10);
+            Node found = find(node.longParam, path, segEnd + 1, end, values, n + 1);
+            if (found != null) return found;
+        }
+
+        // 3. String parameter
+        if (node.stringParam != null && length > 0) {
+            values[n] = path.substring(start, segEnd);
+            return find(node.stringParam, path, segEnd + 1, end, values, n + 1);
+        }
+        return null;
+    }
+
+    /* ======================================================================
+     * --------------------------------- Trie --------------------------------
+     * ====================================================================== */
+
+    /**
+     * A trie node - one per distinct template prefix.
+     */
+    private static final class Node {
+
+        // --- Attributes ---
+        // Names of parameters captured on the way to this node
+        private final String[] paramNames;
+        private Map<String, Node> children = new LinkedHashMap<>();
+        private Map<String, RouteHandler> handlers = new LinkedHashMap<>();
+        // Methods whose handlers stream the response themselves
+        private Set<String> streaming = new HashSet<>();
+        private Node longParam;
+        private Node stringParam;
+        // Template first declared for this node, if routed
+        private String template;
+
+        // Compiled by freeze()
+        private String[] literals;
+        private Node[] literalNodes;
+        private int maxParams;
+
+        // Constructor
+        private Node(String[] paramNames) { this.paramNames = paramNames; }
+
+        /**
+         * Retrieve (or create) the child node for a template segment.
+         */
+        private Node child(String segment, String template) {
+            if (!(segment.startsWith("{") && segment.endsWith("}"))) {
+                return children.computeIfAbsent(segment, s -> new Node(paramNames));
+            }
+
+            String spec = segment.substring(1, segment.length() - 1);
+            int colon = spec.indexOf(':');
+            String name = colon < 0 ? spec : spec.substring(0, colon);
+            String type = colon < 0 ? "string" : spec.substring(colon + 1);
+
+            String[] names = Arrays.copyOf(paramNames, paramNames.length + 1);
+            names[paramNames.length] = name;
+
+            Node child;
+            switch (type) {
+                case "long" -> {
+                    if (longParam == null) longParam = new Node(names);
+                    child = longParam;
+                }
+                case "string" -> {
+                    if (stringParam == null) stringParam = new Node(names);
+                    child = stringParam;
+                }
+                default -> throw new IllegalArgumentException(
+                    "Unknown parameter type `" + type + "` in route " + template);
+            }
+
+            // Sibling templates must agree on what a parameter is called
+            if (!child.paramNames[paramNames.length].equals(name)) {
+                throw new IllegalStateException("Conflicting parameter names in route " + template);
+            }
+            return child;
+        }
+
+        /**
+         * Compile this subtree for matching, returning its deepest parameter
+         * count.
+         */
+        private int freeze() {
+            literals = children.keySet().toArray(String[]::new);
+            literalNodes = children.values().toArray(Node[]::new);
+            handlers = Map.copyOf(handlers);
+            streaming = Set.copyOf(streaming);
+            children = null;
+
+            maxParams = paramNames.length;
+            for (Node child : literalNodes) { maxParams = Math.max(maxParams, child.freeze()); }
+            if (longParam != null) maxParams = Math.max(maxParams, longParam.freeze());
+            if (stringParam != null) maxParams = Math.max(maxParams, stringParam.freeze());
+            return maxParams;
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------------- Builder ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Builder for {@link RouteTable}. Routes may be declared in any order.
+     */
+    public static class Builder {
+
+        // --- Attributes ---
+        private final Node root = new Node(new String[0]);
+        private boolean built;
+
+        // --- Per-method Shorthands ---
+        public Builder get(String template, RouteHandler handler) { return route("GET", template, handler); }
+        public Builder post(String template, RouteHandler handler) { return route("POST", template, handler); }
+        public Builder put(String template, RouteHandler handler) { return route("PUT", template, handler); }
+        public Builder delete(String template, RouteHandler handler) { return route("DELETE", template, handler); }
+
+        /**
+         * Declare a long-lived {@code GET} route, whose handler takes the
+         * request asynchronous itself (e.g. an event stream) - so it is never
+         * dispatched to a worker thread with a buffered response.
+         *
+         * @param template path template, e.g. {@code "/changes"}
+         * @param handler handler invoked for matching requests
+         * @return this builder
+         */
+        public Builder stream(String template, RouteHandler handler) {
+            route("GET", template, handler);
+            nodeFor(template).streaming.add("GET");
+            return this;
+        }
+
+        /**
+         * Declare a route.
+         *
+         * @param method HTTP method, e.g. {@code "GET"}
+         * @param template path template, e.g. {@code "/feat/{id:long}"}
+         * @param handler handler invoked for matching requests
+         * @return this builder
+         * @throws IllegalStateException if the route is already declared
+         */
+        public Builder route(String method, String template, RouteHandler handler) {
+            if (built) throw new IllegalStateException("RouteTable already built");
+
+            Node node = nodeFor(template);
+            if (node.handlers.putIfAbsent(method, handler) != null) {
+                throw new IllegalStateException("Duplicate route " + method + " " + template);
+            }
+            if (node.template == null) node.template = template;
+            return this;
+        }
+
+        /**
+         * Utility method to retrieve (or create) the node a template leads to.
+         */
+        private Node nodeFor(String template) {
+            Node node = root;
+            for (String segment : template.split("/")) {
+                if (!segment.isEmpty()) node = node.child(segment, template);
+            }
+            return node;
+        }
+
+        /**
+         * Compile all declared routes. The builder cannot be reused.
+         *
+         * @return new, immutable RouteTable
+         */
+        public RouteTable build() {
+            built = true;
+            root.freeze();
+            return new RouteTable(root);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+// java/api/utils/MediaType.java
+package api.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Body encodings supported by the API, with utility methods to negotiate them
+ * from request headers. Json remains the default.
+ */
+public enum MediaType {
+
+    // --- Enumerations ---
+    JSON("application/json"),
+    CBOR("application/cbor");
+
+    // --- Attributes ---
+    private final String mimeType;
+
+    // MediaType constructor
+    MediaType(String mimeType) { this.mimeType = mimeType; }
+
+    // --- Getter ---
+    public String getMimeType() { return this.mimeType; }
+
+    /**
+     * Choose the response encoding from the {@code Accept} header. CBOR is
+     * only chosen if explicitly accepted, and preferred at least as much as
+     * json.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @return negotiated MediaType for the response
+     */
+    public static MediaType ofResponse(HttpServletRequest req) {
+        String accept = req.getHeader("Accept");
+        if (accept == null) return JSON;
+
+        double cbor = 0, json = 0;
+        for (String range : accept.split(",")) {
+            String[] params = range.split(";");
+            String type = params[0].trim().toLowerCase();
+            double q = quality(params);
+            if (type.equals(CBOR.mimeType)) cbor = Math.max(cbor, q);
+            else if (type.equals(JSON.mimeType) || type.equals("application/*") || type.equals("*/*")) {
+                json = Math.max(json, q);
+            }
+        }
+        return cbor > 0 && cbor >= json ? CBOR : JSON;
+    }
+
+    /**
+     * Identify the encoding of a request body from its {@code Content-Type}.
+     *
+     * @param req {@link HttpServletRequest} object received from API call
+     * @return MediaType of the body - json unless declared CBOR
+     */
+    public static MediaType ofRequest(HttpServletRequest req) {
+        String contentType = req.getContentType();
+        if (contentType == null) return JSON;
+        String type = contentType.split(";")[0].trim();
+        return type.equalsIgnoreCase(CBOR.mimeType) ? CBOR : JSON;
+    }
+
+    /**
+     * Utility method to read the {@code q} parameter of a media range.
+     */
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (!param.startsWith("q=")) continue;
+            try { return Double.parseDouble(param.substring(2)); }
+            catch (NumberFormatException e) { return 0; }
+        }
+        return 1;
+    }
+}
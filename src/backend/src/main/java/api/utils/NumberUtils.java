@@ -6,6 +6,10 @@ package api.utils;
  */
 public class NumberUtils {
 
+    // --- Constants ---
+    private static final String MAX_LONG_DIGITS = "9223372036854775807";
+    private static final String MIN_LONG_DIGITS = "9223372036854775808";
+
     // Private Constructor (disallow instantiation)
     private NumberUtils() {}
 
@@ -16,8 +20,37 @@ public class NumberUtils {
      * @return {@code true} if valid, {@code false} if null, empty, or illegal
      */
     public static boolean isLong(String s) {
-        if (s == null || s.isEmpty()) return false;
-        try { Long.parseLong(s); return true; }
-        catch (NumberFormatException e) { return false; }
+        return s != null && isLong(s, 0, s.length());
+    }
+
+    /**
+     * Check if a region of a {@link CharSequence} can legally be parsed to a
+     * {@link Long} (decimal, optionally negative). Never throws, so is cheap
+     * to call on input that is usually not numeric.
+     *
+     * @param s input containing the region to validate
+     * @param from start index of the region (inclusive)
+     * @param to end index of the region (exclusive)
+     * @return {@code true} if valid, {@code false} if empty or illegal
+     */
+    public static boolean isLong(CharSequence s, int from, int to) {
+        boolean negative = from < to && s.charAt(from) == '-';
+        int start = negative ? from + 1 : from;
+        int digits = to - start;
+        if (digits <= 0 || digits > MAX_LONG_DIGITS.length()) return false;
+
+        for (int i = start; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        if (digits < MAX_LONG_DIGITS.length()) return true;
+
+        // Same length as the limit - compare digit by digit
+        String limit = negative ? MIN_LONG_DIGITS : MAX_LONG_DIGITS;
+        for (int i = 0; i < digits; i++) {
+            int cmp = s.charAt(start + i) - limit.charAt(i);
+            if (cmp != 0) return cmp < 0;
+        }
+        return true;
     }
 }
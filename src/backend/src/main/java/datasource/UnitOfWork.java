@@ -4,7 +4,11 @@ package datasource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import datasource.mappers.Mapper;
 import datasource.mappers.MapperRegistry;
@@ -19,6 +23,10 @@ import datasource.utils.SQLExceptionTranslator;
  *   <li> Request a new UnitOfWork via {@link UnitOfWork#newCurrent()},
  *   <li> Retrieve a current UnitOfWork via {@link UnitOfWork#getCurrent()}
  *   <li> Commit registered changes via {@link UnitOfWork#commit()}
+ *   <li> Observe successful commits via {@link
+ *        UnitOfWork#addCommitListener(CommitListener)}
+ *   <li> Join every transaction via {@link
+ *        UnitOfWork#addPreCommitHook(PreCommitHook)}
  * </ul>
  */
 public class UnitOfWork {
@@ -26,12 +34,18 @@ public class UnitOfWork {
     // UnitOfWork thread instance
     @SuppressWarnings("rawtypes")
     private static ThreadLocal current = new ThreadLocal();
+    // Listeners notified after every successful commit (all threads)
+    private static final List<CommitListener> listeners = new CopyOnWriteArrayList<>();
+    // Hooks run within every transaction, just before it commits (all threads)
+    private static final List<PreCommitHook> preCommitHooks = new CopyOnWriteArrayList<>();
 
     // --- Attributes: Object Lists ---
     private List<Object> newObjects = new ArrayList<>();
     private List<Object> dirtyObjects = new ArrayList<>();
     private List<Work> additionalWork = new ArrayList<>();
     private List<Object> deletedObjects = new ArrayList<>();
+    // New and dirty objects, for constant time duplicate checks on bulk work
+    private Set<Object> registered = Collections.newSetFromMap(new IdentityHashMap<>());
 
     // UnitOfWork initialisation, retrieval and management methods
     public static void newCurrent() { setCurrent(new UnitOfWork()); }
@@ -50,7 +64,7 @@ public class UnitOfWork {
      * @param obj new object to insert
      */
     public void registerNew(Object obj) {
-        if (!newObjects.contains(obj) && !dirtyObjects.contains(obj) && !deletedObjects.contains(obj)) {
+        if (!deletedObjects.contains(obj) && registered.add(obj)) {
             newObjects.add(obj);
         }
     }
@@ -61,7 +75,7 @@ public class UnitOfWork {
      * @param obj dirtied object to update
      */
     public void registerDirty(Object obj) {
-        if (!newObjects.contains(obj) && !dirtyObjects.contains(obj) && !deletedObjects.contains(obj)) {
+        if (!deletedObjects.contains(obj) && registered.add(obj)) {
             dirtyObjects.add(obj);
         }
     }
@@ -73,10 +87,10 @@ public class UnitOfWork {
      */
     public void registerDeleted(Object obj) {
         // No need to register deletion of object if not yet in database
-        if (newObjects.remove(obj)) return;
+        if (newObjects.remove(obj)) { registered.remove(obj); return; }
 
         // Otherwise, remove object from dirty set before adding to deletion set
-        dirtyObjects.remove(obj);
+        if (dirtyObjects.remove(obj)) registered.remove(obj);
         if (!deletedObjects.contains(obj)) deletedObjects.add(obj);
     }
 
@@ -88,6 +102,7 @@ public class UnitOfWork {
      * @return true if all database commits succeed, false if any failures
      */
     public boolean commit() {
+        boolean committed;
         try (Connection conn = Database.getConnection()) {
             boolean autoCommitDefault = conn.getAutoCommit();
             try {
@@ -99,16 +114,17 @@ public class UnitOfWork {
                 */
                 boolean failure = false;
                 // Stop transaction early if failure detected
-                if (!processList(newObjects, (m, o) -> m.insert(o, conn), conn)) failure = true;
+                if (!insertNew(conn)) failure = true;
                 else if (!processList(dirtyObjects, (m, o) -> m.update(o, conn), conn)) failure = true;
                 else if (!executeWork(conn)) failure = true;
                 else if (!processList(deletedObjects, (m, o) -> m.delete(o, conn), conn)) failure = true;
+                else if (!runPreCommitHooks(conn)) failure = true;
 
                 // On DB update failure, rollback before returning
                 if (failure) { conn.rollback(); return false; }
 
                 conn.commit();
-                return true;
+                committed = true;
             } catch (Exception e) {
                 // If any database action fails, rollback full UoW commit
                 conn.rollback();
@@ -123,6 +139,88 @@ public class UnitOfWork {
         } catch (SQLException e) {
             throw SQLExceptionTranslator.translate(e);
         }
+
+        // Notify listeners only once the connection is back in the pool
+        notifyListeners();
+        return committed;
+    }
+
+    /* ======================================================================
+     * -------------------------- Commit Listeners --------------------------
+     * ====================================================================== */
+
+    /**
+     * A {@link FunctionalInterface} defining the contract for observers of
+     * successfully committed UnitOfWork transactions.
+     *
+     * <p> Listeners are invoked on the committing thread after the transaction
+     * has been committed and its connection released, so they may borrow
+     * their own connection from the {@link Database} pool.
+     */
+    @FunctionalInterface
+    public interface CommitListener {
+        /**
+         * @param inserted unmodifiable list of objects inserted (IDs now set)
+         * @param updated unmodifiable list of objects updated
+         * @param deleted unmodifiable list of objects deleted
+         */
+        void onCommit(List<Object> inserted, List<Object> updated, List<Object> deleted);
+    }
+
+    /**
+     * Register a listener to be notified after every successful commit.
+     *
+     * @param listener CommitListener to add
+     */
+    public static void addCommitListener(CommitListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Private helper function to notify all registered {@link CommitListener}s
+     * of this UnitOfWork's committed changes. A failing listener is reported
+     * but does not affect others, as the transaction has already committed.
+     */
+    private void notifyListeners() {
+        List<Object> inserted = List.copyOf(newObjects);
+        List<Object> updated = List.copyOf(dirtyObjects);
+        List<Object> deleted = List.copyOf(deletedObjects);
+        for (CommitListener listener : listeners) {
+            try { listener.onCommit(inserted, updated, deleted); }
+            catch (RuntimeException e) {
+                System.err.println("Commit listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------- Pre-Commit Hooks --------------------------
+     * ====================================================================== */
+
+    /**
+     * A {@link FunctionalInterface} defining the contract for work joining
+     * every UnitOfWork transaction, after all registered changes are applied.
+     */
+    @FunctionalInterface
+    public interface PreCommitHook {
+        /**
+         * @param inserted unmodifiable list of objects inserted (IDs now set)
+         * @param updated unmodifiable list of objects updated
+         * @param deleted unmodifiable list of objects deleted
+         * @param conn database Connection object of the open transaction
+         * @return true if operation was successful, false otherwise
+         */
+        boolean execute(List<Object> inserted, List<Object> updated, List<Object> deleted, Connection conn);
+    }
+
+    /**
+     * Register a hook to be run within every transaction, before it commits.
+     * A failing hook rolls the transaction back.
+     *
+     * @param hook PreCommitHook to add
+     */
+    public static void addPreCommitHook(PreCommitHook hook) {
+        preCommitHooks.add(hook);
     }
 
     /* ======================================================================
@@ -199,6 +297,38 @@ public class UnitOfWork {
         return true;
     }
 
+    /**
+     * Private helper function to insert all new objects in registration order.
+     * Consecutive objects sharing a mapper are handed over together via
+     * {@link Mapper#insertAll(List, Connection)}, so bulk registrations are
+     * sent as JDBC batches. Rollbacks changes if an insert fails.
+     *
+     * @param conn database {@link Connection} object
+     * @return true if all inserts succeed, false otherwise
+     * @throws SQLException
+     */
+    private boolean insertNew(Connection conn) throws SQLException {
+        int start = 0;
+        while (start < newObjects.size()) {
+            @SuppressWarnings("unchecked")
+            Mapper<Object> mapper = (Mapper<Object>) MapperRegistry.getMapper(newObjects.get(start).getClass());
+
+            // Extend run while the same mapper applies
+            int end = start + 1;
+            while (end < newObjects.size() && MapperRegistry.getMapper(newObjects.get(end).getClass()) == mapper) {
+                end++;
+            }
+
+            if (!mapper.insertAll(newObjects.subList(start, end), conn)) {
+                // If action fails, rollback database changes
+                conn.rollback();
+                return false;
+            }
+            start = end;
+        }
+        return true;
+    }
+
     /**
      * Private helper function to enact all additional work registered in order,
      * returning success/failure status of batch operations. Rollbacks changes
@@ -219,4 +349,26 @@ public class UnitOfWork {
         }
         return true;
     }
+
+    /**
+     * Private helper function to run all registered pre-commit hooks in
+     * order. Rollbacks changes if a hook fails.
+     *
+     * @param conn database {@link Connection} object
+     * @return true if all hooks succeed, false otherwise
+     * @throws SQLException
+     */
+    private boolean runPreCommitHooks(Connection conn) throws SQLException {
+        List<Object> inserted = List.copyOf(newObjects);
+        List<Object> updated = List.copyOf(dirtyObjects);
+        List<Object> deleted = List.copyOf(deletedObjects);
+        for (PreCommitHook hook : preCommitHooks) {
+            if (!hook.execute(inserted, updated, deleted, conn)) {
+                // If hook fails, rollback database changes
+                conn.rollback();
+                return false;
+            }
+        }
+        return true;
+    }
 }
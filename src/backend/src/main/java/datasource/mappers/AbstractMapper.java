@@ -1,6 +1,7 @@
 // java/datasource/mappers/AbstractMapper.java
 package datasource.mappers;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -11,6 +12,8 @@ import java.util.List;
 import java.util.Optional;
 
 import datasource.utils.SQLExceptionTranslator;
+import domain.core.Entity;
+import domain.core.EntityId;
 
 /**
  * Abstract Datamapper - mappers implementing this connect domain model objects
@@ -27,6 +30,7 @@ import datasource.utils.SQLExceptionTranslator;
  *   <li> Meta: {@link #mapRow(ResultSet)} - convert from SQL to domain object
  *   <li> Create: {@link #insertStatement(Object, Connection)}
  *   <li> Update: {@link #updateStatement(Object, Connection)}
+ *   <li> Batch: {@link #insertBatch(String, List, Binder, boolean, Connection)}
  * </ul>
  */
 public abstract class AbstractMapper<T> implements Mapper<T> {
@@ -97,6 +101,23 @@ public abstract class AbstractMapper<T> implements Mapper<T> {
         return list;
     }
 
+    @Override
+    public List<T> findAllById(long[] ids, Connection conn) {
+        List<T> list = new ArrayList<>(ids.length);
+        if (ids.length == 0) return list;
+
+        String sql = "SELECT * FROM " + tableName() + " WHERE id = ANY(?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setArray(1, idArray(ids, conn));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) { list.add(mapRow(rs)); }
+            }
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+        return list;
+    }
+
     /* ------------------------------- Delete ------------------------------- */
 
     @Override
@@ -114,6 +135,72 @@ public abstract class AbstractMapper<T> implements Mapper<T> {
      * -------------------------- Utility  Methods --------------------------
      * ====================================================================== */
 
+    /**
+     * Shorthand utility method to bind IDs as an SQL {@code bigint[]}, e.g.
+     * for {@code WHERE id = ANY(?)}.
+     *
+     * @param ids IDs bound
+     * @param conn An open database connection, creating the array
+     * @return SQL Array of {@code ids}
+     * @throws SQLException if the array cannot be created
+     */
+    public static Array idArray(long[] ids, Connection conn) throws SQLException {
+        Long[] boxed = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) { boxed[i] = ids[i]; }
+        return conn.createArrayOf("bigint", boxed);
+    }
+
+    /**
+     * A {@link FunctionalInterface} binding one object's values to the
+     * parameters of a prepared statement.
+     */
+    @FunctionalInterface
+    protected interface Binder<T> {
+        void bind(PreparedStatement pstmt, T obj) throws SQLException;
+    }
+
+    /**
+     * Shorthand utility method to insert many objects via a single JDBC batch,
+     * rather than one round trip each.
+     *
+     * @param sql INSERT statement, without any {@code RETURNING} clause
+     * @param objs objects inserted
+     * @param binder binds each object to the statement parameters
+     * @param generatesId true to assign each object its generated {@code id}
+     * @param conn An open database connection to queue transactions on
+     * @return true if every row was inserted
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected final boolean insertBatch(
+        String sql, List<T> objs, Binder<T> binder, boolean generatesId, Connection conn
+    ) {
+        if (objs.isEmpty()) return true;
+        try (PreparedStatement pstmt = generatesId
+                ? conn.prepareStatement(sql, new String[] { "id" })
+                : conn.prepareStatement(sql)) {
+            for (T obj : objs) {
+                binder.bind(pstmt, obj);
+                pstmt.addBatch();
+            }
+            for (int count : pstmt.executeBatch()) {
+                if (count == 0) return false;
+            }
+            if (!generatesId) return true;
+
+            // Generated keys are returned in batch order
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                for (T obj : objs) {
+                    if (!rs.next()) throw new SQLException("Table `" + tableName() + "` insertion failed");
+                    ((Entity) obj).setId(new EntityId<>(rs.getLong(1)));
+                }
+            }
+            return true;
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
     /**
      * GPT recommended change:
      * Shorthand utility method to replace placeholders for this table's name
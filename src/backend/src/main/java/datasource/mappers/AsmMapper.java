@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import datasource.utils.SQLExceptionTranslator;
 import domain.core.EntityId;
@@ -62,6 +63,18 @@ public class AsmMapper extends AbstractMapper<AbilityScoreModifier> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<AbilityScoreModifier> objs, Connection conn) {
+        String sql = sql("""
+            INSERT INTO %TABLE% (ability, value)
+            VALUES (?, ?)
+            """);
+        return insertBatch(sql, objs, (pstmt, obj) -> {
+            pstmt.setString(1, obj.getAbility().getShorthand());
+            pstmt.setInt(2, obj.getValue());
+        }, true, conn);
+    }
+
     @Override
     public boolean update(AbilityScoreModifier obj, Connection conn) {
         String sql = sql("""
@@ -0,0 +1,59 @@
+// java/datasource/mappers/CatalogVersionMapper.java
+package datasource.mappers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import datasource.Database;
+import datasource.utils.SQLExceptionTranslator;
+
+/**
+ * Utility Class for the single row {@code catalog_version} table, versioning
+ * rules content so cached copies of it can be cheaply validated.
+ */
+public class CatalogVersionMapper {
+
+    /**
+     * A point in the history of rules content. Versions are only comparable
+     * within the same {@code epoch} (i.e. schema instance).
+     */
+    public record Version(long epoch, long value) { }
+
+    /**
+     * Retrieves the current rules content version.
+     *
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return current Version
+     * @throws IllegalStateException if the version row is missing
+     */
+    public Version find(Connection conn) {
+        String sql = "SELECT epoch, version FROM catalog_version WHERE id = 1";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql);
+            ResultSet rs = pstmt.executeQuery()) {
+
+            if (!rs.next()) throw new IllegalStateException("catalog_version row is missing");
+            return new Version(rs.getLong("epoch"), rs.getLong("version"));
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
+    /**
+     * Increments the rules content version. Should be called within the
+     * transaction making the change, so the two commit atomically.
+     *
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return true if the version was incremented, false otherwise
+     */
+    public boolean bump(Connection conn) {
+        String sql = "UPDATE catalog_version SET version = version + 1 WHERE id = 1";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            return pstmt.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import datasource.Database;
 import datasource.utils.SQLExceptionTranslator;
@@ -64,6 +65,42 @@ public class CharacterModifierMapper {
         insertSupplies(sourceId, cm.getProficiencies(), conn);
     }
 
+    /**
+     * Refresh all supplied modifications for many {@link CharacterModifier}
+     * sources of one {@code kind} at once. Behaves as {@link
+     * #replaceAllForSource(String, long, CharacterModifier, Connection)} per
+     * source, but with one statement per supply table rather than per source.
+     *
+     * @param <S> The class type of the modifier sources
+     * @param kind the table name of the modifier sources
+     * @param sources the sources for which this replaceAll is called, with IDs
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return true if every supply row was inserted, false if otherwise
+     */
+    public <S extends Entity<?> & CharacterModifier> boolean replaceAllForSources(
+        String kind, List<S> sources, Connection conn
+    ) {
+        if (sources.isEmpty()) return true;
+
+        // Optionally create modifier_source instances / return PK IDs
+        long[] refIds = new long[sources.size()];
+        for (int i = 0; i < refIds.length; i++) { refIds[i] = sources.get(i).getId().value(); }
+        Map<Long, Long> sourceIdsByRef = resolveSourceIds(kind, refIds, conn);
+        long[] sourceIds = new long[refIds.length];
+        for (int i = 0; i < refIds.length; i++) { sourceIds[i] = sourceIdsByRef.get(refIds[i]); }
+
+        // Clear supplies
+        deleteAllSupplies(sourceIds, conn);
+
+        // Reinsert supplies, one batch per supply table
+        return insertSupplies(ModificationType.ASM, sourceIds, sources,
+                CharacterModifier::getAbilityScoreModifiers, conn)
+            && insertSupplies(ModificationType.FEAT, sourceIds, sources, CharacterModifier::getFeats, conn)
+            && insertSupplies(ModificationType.LANGUAGE, sourceIds, sources, CharacterModifier::getLanguages, conn)
+            && insertSupplies(ModificationType.PROFICIENCY, sourceIds, sources,
+                CharacterModifier::getProficiencies, conn);
+    }
+
     /**
      * Delete all supplied modifications for a particular {@link
      * CharacterModifier} source, plus the source table entry itself.
@@ -142,6 +179,63 @@ public class CharacterModifierMapper {
         return findSuppliedIds(kind, id, tableName, conn);
     }
 
+    /**
+     * Retrieves the IDs of all modifications of a particular {@link
+     * ModificationType} supplied by every modifier source of one {@code kind},
+     * in a single query. Used for bulk loading fully linked aggregates.
+     *
+     * @param kind the table name of the modifier sources
+     * @param type the type of supplied modification queried
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return map of modifier PKs to their supplied modification PKs
+     */
+    public Map<Long, List<Long>> findAllSuppliedIds(
+        String kind, ModificationType type, Connection conn
+    ) {
+        return findAllSuppliedIds(kind, type, null, conn);
+    }
+
+    /**
+     * Retrieves the IDs of all modifications of a particular {@link
+     * ModificationType} supplied by some modifier sources of one {@code kind},
+     * in a single query. Used for bulk loading fully linked aggregates by ID.
+     *
+     * @param kind the table name of the modifier sources
+     * @param type the type of supplied modification queried
+     * @param refIds the PKs of the modifiers in their own table, or null for all
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return map of modifier PKs to their supplied modification PKs
+     */
+    public Map<Long, List<Long>> findAllSuppliedIds(
+        String kind, ModificationType type, long[] refIds, Connection conn
+    ) {
+        String tableName = SUPPLY_TABLES.get(type);
+        if (tableName == null) throw new IllegalStateException("No supply_table is mapped for type " + type);
+
+        Map<Long, List<Long>> map = new HashMap<>();
+        if (refIds != null && refIds.length == 0) return map;
+
+        String sql = "SELECT ms.ref_id, s.supply_id FROM " + tableName + " s"
+            + " JOIN modifier_source ms ON ms.id = s.source_id"
+            + " WHERE ms.kind = ?"
+            + (refIds != null ? " AND ms.ref_id = ANY(?)" : "");
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, kind);
+            if (refIds != null) pstmt.setArray(2, AbstractMapper.idArray(refIds, conn));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    map.computeIfAbsent(rs.getLong("ref_id"), k -> new ArrayList<>())
+                        .add(rs.getLong("supply_id"));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+        return map;
+    }
+
     /* ======================================================================
      * -------------------------- Private  Methods --------------------------
      * ====================================================================== */
@@ -182,6 +276,41 @@ public class CharacterModifierMapper {
         }
     }
 
+    /**
+     * Batched form of {@link #resolveSourceId(String, long, Connection)},
+     * resolving the {@code modifier_source} PKs of many modifiers in one
+     * statement.
+     *
+     * @param kind the table name of the modifier sources
+     * @param refIds the PKs of the modifiers in their own table
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return map of modifier PKs to their {@code modifier_source} PKs
+     */
+    private Map<Long, Long> resolveSourceIds(String kind, long[] refIds, Connection conn) {
+        String sql = """
+            INSERT INTO modifier_source (kind, ref_id)
+            SELECT ?, unnest(?::bigint[])
+            ON CONFLICT (kind, ref_id)
+            DO UPDATE SET kind = EXCLUDED.kind
+            RETURNING id, ref_id
+            """;
+        Map<Long, Long> map = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, kind);
+            pstmt.setArray(2, AbstractMapper.idArray(refIds, conn));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) { map.put(rs.getLong("ref_id"), rs.getLong("id")); }
+            }
+            // Throw error if operation fails (an ID not returned)
+            if (map.size() != refIds.length) throw new SQLException("Table `modifier_source` ID retrieval failed");
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+        return map;
+    }
+
     /**
      * Searches for an existing {@code modifier_source} table entry, returning
      * this entries PK if found - used as {@code source_id} in supply tables.
@@ -297,6 +426,51 @@ public class CharacterModifierMapper {
         }
     }
 
+    /**
+     * Batch insert one type of modification for many modifier sources: one
+     * batch row per supplied modification, one round trip for the table.
+     *
+     * @param <S> The class type of the modifier sources
+     * @param type the type of supplied modification inserted
+     * @param sourceIds {@code modifier_source} table PFKs, in order of sources
+     * @param sources the modifier sources supplying the modifications
+     * @param supplies reads the modifications of {@code type} from a source
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return true if every supply row was inserted, false if otherwise
+     */
+    private <S extends CharacterModifier> boolean insertSupplies(
+        ModificationType type, long[] sourceIds, List<S> sources,
+        Function<CharacterModifier, List<? extends Entity<?>>> supplies, Connection conn
+    ) {
+        String tableName = SUPPLY_TABLES.get(type);
+        if (tableName == null) throw new IllegalStateException("No supply_table is mapped for type " + type);
+
+        String sql = "INSERT INTO " + tableName + "(source_id, supply_id) VALUES (?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            // Stack up batch commands across all sources
+            boolean empty = true;
+            for (int i = 0; i < sourceIds.length; i++) {
+                List<? extends Entity<?>> list = supplies.apply(sources.get(i));
+                if (list == null) continue;
+                for (Entity<?> t : list) {
+                    pstmt.setLong(1, sourceIds[i]);
+                    pstmt.setLong(2, t.getId().value());
+                    pstmt.addBatch();
+                    empty = false;
+                }
+            }
+            if (empty) return true;
+
+            for (int count : pstmt.executeBatch()) {
+                if (count == 0) return false;
+            }
+            return true;
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
     /**
      * Wipe supply tables for a specified modifier source. Typically done before
      * re-inserting new supplied modifications, for a clean replace.
@@ -315,4 +489,22 @@ public class CharacterModifierMapper {
             }
         }
     }
+
+    /**
+     * Wipe supply tables for many modifier sources, one statement per table.
+     *
+     * @param sourceIds {@code modifier_source} table PFKs
+     * @param conn An open {@link Database} connection to queue transactions on
+     */
+    private void deleteAllSupplies(long[] sourceIds, Connection conn) {
+        for (String tableName : SUPPLY_TABLES.values()) {
+            String sql = "DELETE FROM " + tableName + " WHERE source_id = ANY(?)";
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setArray(1, AbstractMapper.idArray(sourceIds, conn));
+                pstmt.executeUpdate();
+            } catch (SQLException e) {
+                throw SQLExceptionTranslator.translate(e);
+            }
+        }
+    }
 }
@@ -6,14 +6,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import datasource.Database;
 import datasource.utils.SQLExceptionTranslator;
+import domain.core.Entity;
 import domain.core.EntityId;
 import domain.modifiers.AbilityScoreModifier;
 import domain.modifiers.Feat;
 import domain.modifiers.proficiency.Proficiency;
+import domain.types.ModificationType;
 
 /**
  * Class for {@link Feat} data mapping operations. Implementation of
@@ -86,6 +91,21 @@ public class FeatMapper extends AbstractMapper<Feat> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<Feat> objs, Connection conn) {
+        String sql = sql("""
+            INSERT INTO %TABLE% (name, description)
+            VALUES (?, ?)
+            """);
+        if (!insertBatch(sql, objs, (pstmt, obj) -> {
+            pstmt.setString(1, obj.getName());
+            pstmt.setString(2, obj.getDescription());
+        }, true, conn)) return false;
+
+        // Delegate modifier persistence, now IDs are assigned
+        return supplyMapper.replaceAllForSources(tableName(), objs, conn);
+    }
+
     @Override
     public boolean update(Feat obj, Connection conn) {
         String sql = sql("""
@@ -118,11 +138,43 @@ public class FeatMapper extends AbstractMapper<Feat> {
 
     @Override
     public Optional<Feat> findById(long id, Connection conn) {
-        Optional<Feat> shallowOpt = super.findById(id, conn);
-        if (shallowOpt.isEmpty()) return Optional.empty();
-
         // mapRow method only returns shallow, non-aggregated objects
-        Feat shallow = shallowOpt.get();
+        return super.findById(id, conn).map(shallow -> assemble(shallow, conn));
+    }
+
+    @Override
+    public List<Feat> findAllById(long[] ids, Connection conn) {
+        List<Feat> shallows = super.findAllById(ids, conn);
+        long[] found = new long[shallows.size()];
+        for (int i = 0; i < found.length; i++) { found[i] = getId(shallows.get(i)); }
+
+        // One query per supply table for all found feats, rather than per feat
+        Map<Long, List<Long>> asmIds =
+            supplyMapper.findAllSuppliedIds(tableName(), ModificationType.ASM, found, conn);
+        Map<Long, List<Long>> profIds =
+            supplyMapper.findAllSuppliedIds(tableName(), ModificationType.PROFICIENCY, found, conn);
+
+        // Then one read of each supplied modification type
+        Map<Long, AbilityScoreModifier> asms = byId(MapperRegistry.getMapper(AbilityScoreModifier.class)
+            .findAllById(flatten(asmIds), conn));
+        Map<Long, Proficiency> proficiencies = byId(MapperRegistry.getMapper(Proficiency.class)
+            .findAllById(flatten(profIds), conn));
+
+        List<Feat> list = new ArrayList<>(shallows.size());
+        for (Feat shallow : shallows) { list.add(link(shallow, asmIds, profIds, asms, proficiencies)); }
+        return list;
+    }
+
+    /**
+     * Builds a full aggregate Feat from a shallow one, reading its supplied
+     * modifications.
+     *
+     * @param shallow Feat as returned by {@link #mapRow(ResultSet)}
+     * @param conn An open {@link Database} connection to queue operations on
+     * @return fully built Feat
+     */
+    private Feat assemble(Feat shallow, Connection conn) {
+        long id = getId(shallow);
 
         // Prepare to assemble full object - search for supplied modifications
         Mapper<AbilityScoreModifier> asmMapper = MapperRegistry.getMapper(AbilityScoreModifier.class);
@@ -144,8 +196,33 @@ public class FeatMapper extends AbstractMapper<Feat> {
             // .choices(TODO)
             .build();
         full.setId(shallow.getId());
+        return full;
+    }
+
+    /**
+     * Reads and returns all {@link Feat}s as fully built out aggregate objects.
+     * Supplied modifications are resolved against the passed lookups rather
+     * than queried per feat, so shared instances are linked by reference.
+     *
+     * @param asms lookup of all {@link AbilityScoreModifier}s by ID
+     * @param proficiencies lookup of all {@link Proficiency}s by ID
+     * @param conn An open {@link Database} connection to queue operations on
+     * @return List of all fully built Feats in the database
+     */
+    public List<Feat> findAllLinked(
+        Map<Long, AbilityScoreModifier> asms,
+        Map<Long, Proficiency> proficiencies,
+        Connection conn
+    ) {
+        // One query per supply table, rather than per feat
+        Map<Long, List<Long>> asmIds =
+            supplyMapper.findAllSuppliedIds(tableName(), ModificationType.ASM, conn);
+        Map<Long, List<Long>> profIds =
+            supplyMapper.findAllSuppliedIds(tableName(), ModificationType.PROFICIENCY, conn);
 
-        return Optional.of(full);
+        List<Feat> list = new ArrayList<>();
+        for (Feat shallow : findAll(conn)) { list.add(link(shallow, asmIds, profIds, asms, proficiencies)); }
+        return list;
     }
 
     @Override
@@ -154,4 +231,59 @@ public class FeatMapper extends AbstractMapper<Feat> {
         return super.delete(obj, conn) &&
             supplyMapper.deleteAllForSource(tableName(), getId(obj), obj, conn);
     }
+
+    /* ======================================================================
+     * -------------------------- Utility  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to build a full aggregate Feat from a shallow one, its
+     * supplied modification IDs resolved against the passed lookups.
+     */
+    private Feat link(
+        Feat shallow,
+        Map<Long, List<Long>> asmIds,
+        Map<Long, List<Long>> profIds,
+        Map<Long, AbilityScoreModifier> asms,
+        Map<Long, Proficiency> proficiencies
+    ) {
+        long id = getId(shallow);
+        Feat full = new Feat.Builder(shallow.getName(), shallow.getDescription())
+            .abilityScoreModifiers(resolve(asmIds.get(id), asms))
+            .proficiencies(resolve(profIds.get(id), proficiencies))
+            // .choices(TODO)
+            .build();
+        full.setId(shallow.getId());
+        return full;
+    }
+
+    /**
+     * Utility method to collect the distinct IDs of a supplied ID map.
+     */
+    private static long[] flatten(Map<Long, List<Long>> ids) {
+        return ids.values().stream().flatMap(List::stream).mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    /**
+     * Utility method to index entities by ID.
+     */
+    private static <X extends Entity<?>> Map<Long, X> byId(List<X> list) {
+        Map<Long, X> map = new HashMap<>();
+        for (X x : list) { map.put(x.getId().value(), x); }
+        return map;
+    }
+
+    /**
+     * Utility method to resolve a list of IDs against a lookup, skipping any
+     * IDs that are not present.
+     */
+    private static <X> List<X> resolve(List<Long> ids, Map<Long, X> lookup) {
+        List<X> list = new ArrayList<>();
+        if (ids == null) return list;
+        for (long i : ids) {
+            X x = lookup.get(i);
+            if (x != null) list.add(x);
+        }
+        return list;
+    }
 }
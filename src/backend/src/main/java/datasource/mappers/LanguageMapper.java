@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import datasource.utils.SQLExceptionTranslator;
 import domain.core.EntityId;
@@ -65,6 +66,20 @@ public class LanguageMapper extends AbstractMapper<Language> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<Language> objs, Connection conn) {
+        String sql = sql("""
+            INSERT INTO %TABLE% (name, description, script, exotic)
+            VALUES (?, ?, ?, ?)
+            """);
+        return insertBatch(sql, objs, (pstmt, obj) -> {
+            pstmt.setString(1, obj.getName());
+            pstmt.setString(2, obj.getDescription());
+            pstmt.setString(3, obj.getScript());
+            pstmt.setBoolean(4, obj.isExotic());
+        }, true, conn);
+    }
+
     @Override
     public boolean update(Language obj, Connection conn) {
         String sql = sql("""
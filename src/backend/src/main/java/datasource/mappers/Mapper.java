@@ -2,6 +2,7 @@
 package datasource.mappers;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +17,9 @@ import datasource.Database;
  * <ul>
  *   <li> Read: {@link #findById(long, Connection)}
  *   <li> Read: {@link #findAll(Connection)}
+ *   <li> Read: {@link #findAllById(long[], Connection)}
  *   <li> Create: {@link #insert(Object, Connection)}
+ *   <li> Create: {@link #insertAll(List, Connection)}
  *   <li> Update: {@link #update(Object, Connection)}
  *   <li> Delete: {@link #delete(Object, Connection)}
  * </ul>
@@ -48,6 +51,22 @@ public interface Mapper<T> {
      */
     List<T> findAll(Connection conn);
 
+    /**
+     * Reads and returns a {@link List} of the {@code T} database entries with
+     * any of the specified IDs, in no particular order. IDs without an entry
+     * are skipped. Mappers may override this to read all IDs in one query; by
+     * default each is read in turn.
+     *
+     * @param ids IDs of the entities to be searched
+     * @param conn An open {@link Database} connection to queue operations on
+     * @return List of all {@code T}s found
+     */
+    default List<T> findAllById(long[] ids, Connection conn) {
+        List<T> list = new ArrayList<>(ids.length);
+        for (long id : ids) { findById(id, conn).ifPresent(list::add); }
+        return list;
+    }
+
     /* ======================================================================
      * ----------------------- Insert, Update, Delete -----------------------
      * ====================================================================== */
@@ -61,6 +80,22 @@ public interface Mapper<T> {
      */
     boolean insert(T obj, Connection conn);
 
+    /**
+     * Inserts many {@code T} entries into the database. Mappers may override
+     * this to send all rows as one JDBC batch; by default each is inserted in
+     * turn.
+     *
+     * @param objs Domain objects of type {@code T} to insert into the database
+     * @param conn An open {@link Database} connection to queue transactions on
+     * @return true if all transactions were successful, false if otherwise
+     */
+    default boolean insertAll(List<T> objs, Connection conn) {
+        for (T obj : objs) {
+            if (!insert(obj, conn)) return false;
+        }
+        return true;
+    }
+
     /**
      * Updates a {@code T} entry in the database.
      *
@@ -7,11 +7,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import datasource.Database;
+import datasource.mappers.AbstractMapper;
 import datasource.mappers.Mapper;
 import datasource.utils.SQLExceptionTranslator;
 import domain.core.EntityId;
@@ -79,6 +81,34 @@ public class ProficiencyMapper implements Mapper<Proficiency> {
         return list;
     }
 
+    @Override
+    public List<Proficiency> findAllById(long[] ids, Connection conn) {
+        List<Proficiency> list = new ArrayList<>(ids.length);
+        if (ids.length == 0) return list;
+
+        // Group IDs by subtype, then read each subtype table once
+        Map<ProficiencyType, List<Long>> idsByType = new EnumMap<>(ProficiencyType.class);
+        String sql = "SELECT id, kind FROM " + TABLE_NAME + " WHERE id = ANY(?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setArray(1, AbstractMapper.idArray(ids, conn));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ProficiencyType type = ProficiencyType.fromString(rs.getString("kind"));
+                    idsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(rs.getLong("id"));
+                }
+            }
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+
+        for (Map.Entry<ProficiencyType, List<Long>> entry : idsByType.entrySet()) {
+            long[] typeIds = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            list.addAll(this.<Proficiency>mapper(entry.getKey()).findAllById(typeIds, conn));
+        }
+        return list;
+    }
+
     /**
      * Reads and returns a fully instantiated {@link List} of all {@link
      * Proficiency} database entries of a particular {@link ProficiencyType}.
@@ -114,6 +144,40 @@ public class ProficiencyMapper implements Mapper<Proficiency> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<Proficiency> objs, Connection conn) {
+        if (objs.isEmpty()) return true;
+        String sql = "INSERT INTO " + TABLE_NAME + "(kind) VALUES (?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql, new String[] { "id" })) {
+            for (Proficiency obj : objs) {
+                pstmt.setString(1, obj.getProficiencyType().toString());
+                pstmt.addBatch();
+            }
+            for (int count : pstmt.executeBatch()) {
+                if (count == 0) return false;
+            }
+
+            // Set IDs of objects from generated keys, in batch order
+            Map<ProficiencyType, List<Proficiency>> byType = new EnumMap<>(ProficiencyType.class);
+            try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                for (Proficiency obj : objs) {
+                    if (!rs.next()) throw new SQLException("Table `" + TABLE_NAME + "` insertion failed");
+                    obj.setId(new EntityId<>(rs.getLong(1)));
+                    byType.computeIfAbsent(obj.getProficiencyType(), t -> new ArrayList<>()).add(obj);
+                }
+            }
+
+            // Insert into proficiency subtype tables, one batch each
+            for (Map.Entry<ProficiencyType, List<Proficiency>> entry : byType.entrySet()) {
+                if (!mapper(entry.getKey()).insertAll(entry.getValue(), conn)) return false;
+            }
+            return true;
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
     @Override
     public boolean update(Proficiency obj, Connection conn) {
         return mapper(obj.getProficiencyType()).update(obj, conn);
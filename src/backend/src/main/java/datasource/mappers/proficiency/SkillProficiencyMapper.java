@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import datasource.mappers.AbstractMapper;
 import datasource.utils.SQLExceptionTranslator;
@@ -55,6 +56,18 @@ public class SkillProficiencyMapper extends AbstractMapper<SkillProficiency> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<SkillProficiency> objs, Connection conn) {
+        String sql = sql("""
+            INSERT INTO %TABLE% (id, kind)
+            VALUES (?, ?)
+            """);
+        return insertBatch(sql, objs, (pstmt, obj) -> {
+            pstmt.setLong(1, getId(obj));
+            pstmt.setString(2, obj.getSkill().toString());
+        }, false, conn);
+    }
+
     @Override
     public boolean update(SkillProficiency obj, Connection conn) {
         String sql = sql("""
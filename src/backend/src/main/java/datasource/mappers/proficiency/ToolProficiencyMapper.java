@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import datasource.mappers.AbstractMapper;
 import datasource.mappers.Mapper;
@@ -60,6 +61,20 @@ public class ToolProficiencyMapper extends AbstractMapper<ToolProficiency> {
         }
     }
 
+    @Override
+    public boolean insertAll(List<ToolProficiency> objs, Connection conn) {
+        String sql = sql("""
+            INSERT INTO %TABLE% (id, name, description, kind)
+            VALUES (?, ?, ?, ?)
+            """);
+        return insertBatch(sql, objs, (pstmt, obj) -> {
+            pstmt.setLong(1, getId(obj));
+            pstmt.setString(2, obj.getName());
+            pstmt.setString(3, obj.getDescription());
+            pstmt.setString(4, obj.getType().toString());
+        }, false, conn);
+    }
+
     @Override
     public boolean update(ToolProficiency obj, Connection conn) {
         String sql = sql("""
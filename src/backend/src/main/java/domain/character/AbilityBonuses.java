@@ -0,0 +1,147 @@
+// java/domain/character/AbilityBonuses.java
+package domain.character;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.LevelReward;
+import domain.types.Ability;
+
+/**
+ * The ability score bonuses a {@link Character}'s {@link CharacterModifier}
+ * sources (race, background and class selections) add on top of its allocated
+ * {@link AbilityScores}.
+ *
+ * <p> Each source is compiled once into a per-ability contribution, and the
+ * contributions summed into cached totals - so reads are constant-time. When
+ * a source is replaced (e.g. a new choice, or a class selection at a new
+ * level) only its contribution is recompiled; the rest are re-summed as is.
+ */
+final class AbilityBonuses {
+
+    // --- Constants ---
+    private static final int ABILITIES = Ability.values().length;
+
+    // --- Attributes ---
+    private final List<CharacterModifier> sources;
+    // Per source: its bonus per ability ordinal, or null until compiled
+    private final List<int[]> contributions;
+    // Summed contributions, or null until summed
+    private int[] totals;
+
+    // Constructor
+    AbilityBonuses(List<? extends CharacterModifier> sources) {
+        this.sources = new ArrayList<>();
+        this.contributions = new ArrayList<>();
+        for (CharacterModifier source : sources) { add(source); }
+    }
+
+    /* ======================================================================
+     * -------------------------- Package  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Retrieve the total bonus to an ability.
+     *
+     * @param ability {@link Ability} queried
+     * @return summed bonus of all sources
+     */
+    int get(Ability ability) {
+        return totals()[ability.ordinal()];
+    }
+
+    /**
+     * Begin counting a new source's bonuses.
+     *
+     * @param source {@link CharacterModifier} added - ignored if null
+     */
+    void add(CharacterModifier source) {
+        if (source == null) return;
+        sources.add(source);
+        contributions.add(null);
+        totals = null;
+    }
+
+    /**
+     * Swap one source for another, recompiling only the replacement.
+     *
+     * @param current {@link CharacterModifier} replaced, or null if none
+     * @param replacement {@link CharacterModifier} replacing it, or null to
+     *        only remove {@code current}
+     */
+    void replace(CharacterModifier current, CharacterModifier replacement) {
+        int i = indexOf(current);
+        if (i < 0) {
+            add(replacement);
+            return;
+        }
+
+        if (replacement == null) {
+            sources.remove(i);
+            contributions.remove(i);
+        } else {
+            sources.set(i, replacement);
+            contributions.set(i, null);
+        }
+        totals = null;
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Sum all contributions, compiling any not yet compiled.
+     */
+    private int[] totals() {
+        if (totals != null) return totals;
+
+        int[] sum = new int[ABILITIES];
+        for (int i = 0; i < sources.size(); i++) {
+            int[] contribution = contributions.get(i);
+            if (contribution == null) {
+                contribution = compile(sources.get(i));
+                contributions.set(i, contribution);
+            }
+            for (int a = 0; a < ABILITIES; a++) { sum[a] += contribution[a]; }
+        }
+        return totals = sum;
+    }
+
+    /**
+     * Utility method to locate a source by identity - selections are not
+     * compared by value.
+     */
+    private int indexOf(CharacterModifier source) {
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i) == source) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Utility method to tally one source's {@link AbilityScoreModifier}s,
+     * including those of the {@link LevelReward}s a class selection has
+     * reached.
+     */
+    private static int[] compile(CharacterModifier source) {
+        int[] contribution = new int[ABILITIES];
+        tally(source, contribution);
+        if (source instanceof ClassSelection selection) {
+            for (LevelReward reward : selection.getTemplate().getLesserLevelRewards(selection.getLevel())) {
+                tally(reward, contribution);
+            }
+        }
+        return contribution;
+    }
+
+    /**
+     * Utility method to add a modifier's ability score changes to a tally.
+     */
+    private static void tally(CharacterModifier modifier, int[] contribution) {
+        for (AbilityScoreModifier asm : modifier.getAbilityScoreModifiers()) {
+            contribution[asm.getAbility().ordinal()] += asm.getValue();
+        }
+    }
+}
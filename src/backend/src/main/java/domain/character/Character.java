@@ -2,6 +2,7 @@
 package domain.character;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -38,6 +39,8 @@ public class Character extends Entity<Character> {
     private CharacterSelection<Background> backgroundSelection;
     private List<ClassSelection> classSelections;
     private AbilityScores abilityScores;
+    // Derived attributes
+    private final AbilityBonuses abilityBonuses;
 
     /* ======================================================================
      * -------------------------- Builder  Pattern --------------------------
@@ -182,7 +185,7 @@ public class Character extends Entity<Character> {
                 throw new IllegalStateException("Character Race must be specified");
             if (this.backgroundSelection == null)
                 throw new IllegalStateException("Character Background must be specified");
-            if (this.classSelections.size() != 0)
+            if (this.classSelections.isEmpty())
                 throw new IllegalStateException("Character must possess at least 1 Class");
 
             // Verify total class levels match character level
@@ -209,6 +212,7 @@ public class Character extends Entity<Character> {
         this.classSelections = builder.classSelections;
 
         this.abilityScores = builder.abilityScores;
+        this.abilityBonuses = new AbilityBonuses(modifiers());
     }
 
     /* ======================================================================
@@ -242,16 +246,19 @@ public class Character extends Entity<Character> {
     public CharacterPhysique getPhysique() { return this.physique; }
     public CharacterProfile getProfile() { return this.profile; }
 
-    public Map<Ability, Integer> getAbilities(Ability ability) {
-        Map<Ability, Integer> flat = Map.copyOf(this.abilityScores.getScores());
-        // TODO: Add ASMs found throughout attached CharacterModifiers
-        return flat;
+    // Derived attributes
+    public Map<Ability, Integer> getAbilities() {
+        Map<Ability, Integer> totals = new EnumMap<>(Ability.class);
+        for (Ability ability : Ability.values()) { totals.put(ability, getAbility(ability)); }
+        return totals;
     }
 
+    /**
+     * Returns the total score of an {@link Ability} - the allocated score plus
+     * the bonuses of all race, background and class selections.
+     */
     public int getAbility(Ability ability) {
-        int flat = this.abilityScores.getScore(ability);
-        // TODO: Add ASMs found throughout attached CharacterModifiers
-        return flat;
+        return this.abilityScores.getScore(ability) + this.abilityBonuses.get(ability);
     }
 
     /* ------------------------------ Setters  ------------------------------ */
@@ -269,6 +276,48 @@ public class Character extends Entity<Character> {
     public void setPhysique(CharacterPhysique physique) { this.physique = physique; }
     public void setProfile(CharacterProfile profile) { this.profile = profile; }
 
+    // Foreign associations
+    public void setRaceSelection(CharacterSelection<Race> raceSelection) {
+        this.abilityBonuses.replace(this.raceSelection, raceSelection);
+        this.raceSelection = raceSelection;
+    }
+
+    public void setBackgroundSelection(CharacterSelection<Background> backgroundSelection) {
+        this.abilityBonuses.replace(this.backgroundSelection, backgroundSelection);
+        this.backgroundSelection = backgroundSelection;
+    }
+
+    /**
+     * Replaces one of the current {@link ClassSelection}s, e.g. with one of a
+     * new level or with different choices.
+     *
+     * @param current class selection replaced
+     * @param replacement class selection replacing it
+     * @return true if {@code current} was found and replaced, false otherwise
+     */
+    public boolean replaceClassSelection(ClassSelection current, ClassSelection replacement) {
+        int i = this.classSelections.indexOf(current);
+        if (i < 0 || replacement == null) return false;
+
+        this.classSelections.set(i, replacement);
+        this.abilityBonuses.replace(current, replacement);
+        return true;
+    }
+
+    /* -------------------------- Utility  Methods -------------------------- */
+
+    /**
+     * Utility method to list all {@link CharacterModifier} selections attached
+     * to this character.
+     */
+    private List<CharacterModifier> modifiers() {
+        List<CharacterModifier> modifiers = new ArrayList<>();
+        modifiers.add(this.raceSelection);
+        modifiers.add(this.backgroundSelection);
+        modifiers.addAll(this.classSelections);
+        return modifiers;
+    }
+
     /* ======================================================================
      * --------------------------- Object Methods ---------------------------
      * ====================================================================== */
@@ -21,11 +21,21 @@ public class CharacterSelection<T extends CharacterModifier> implements Characte
     // --- Attributes ---
     protected final T template;
     protected final List<ChoiceOption<?>> choices;
+    // Flattened template and choice modifiers - fixed once constructed
+    private final List<? extends Language> languages;
+    private final List<? extends Proficiency> proficiencies;
+    private final List<? extends Feat> feats;
+    private final List<? extends AbilityScoreModifier> abilityScoreModifiers;
 
     // Constructor
     public CharacterSelection(T template, List<ChoiceOption<?>> choices) {
         this.template = template;
         this.choices = List.copyOf(choices);
+
+        this.languages = all(CharacterModifier::getLanguages);
+        this.proficiencies = all(CharacterModifier::getProficiencies);
+        this.feats = all(CharacterModifier::getFeats);
+        this.abilityScoreModifiers = all(CharacterModifier::getAbilityScoreModifiers);
     }
 
     /* ======================================================================
@@ -34,27 +44,28 @@ public class CharacterSelection<T extends CharacterModifier> implements Characte
 
     @Override
     public List<? extends Language> getLanguages() {
-        return all(CharacterModifier::getLanguages);
+        return this.languages;
     }
 
     @Override
     public List<? extends Proficiency> getProficiencies() {
-        return all(CharacterModifier::getProficiencies);
+        return this.proficiencies;
     }
 
     @Override
     public List<? extends Feat> getFeats() {
-        return all(CharacterModifier::getFeats);
+        return this.feats;
     }
 
     @Override
     public List<? extends AbilityScoreModifier> getAbilityScoreModifiers() {
-        return all(CharacterModifier::getAbilityScoreModifiers);
+        return this.abilityScoreModifiers;
     }
 
     /**
      * Utility method to combine {@link CharacterModifier} {@code template}
      * lists and type matching {@code choices} items into one returned list.
+     * Called once on construction.
      *
      * @param <X> The type of the retrieved / combined list items
      * @param getter The relevant {@link CharacterModifier} getter
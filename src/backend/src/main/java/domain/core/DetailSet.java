@@ -2,35 +2,45 @@
 package domain.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.PriorityQueue;
 
 import domain.utils.StringUtils;
 
 /**
  * A small {@link Detail} collection object. Should owned by only one
  * {@link Entity} at a time. Mutable.
+ *
+ * <p> Details are kept sorted as they are added, so reads are a cached,
+ * immutable view - rebuilt only after the set is next modified.
  */
 public class DetailSet {
 
     // --- Attributes ---
-    private PriorityQueue<Detail> details;
+    // Always sorted in Detail natural order
+    private final ArrayList<Detail> details;
+    // Immutable copy of details, or null if modified since last read
+    private List<Detail> view;
 
     /* ---------------------------- Constructors ---------------------------- */
 
     // Constructor
     public DetailSet() {
-        this.details = new PriorityQueue<Detail>();
+        this.details = new ArrayList<>();
     }
 
     // Overloaded Constructor (non-empty starting point)
     public DetailSet(List<Detail> details) {
-        this.details = new PriorityQueue<Detail>(details);
+        this.details = new ArrayList<>(details);
+        this.details.sort(null);
     }
 
     // Overloaded Constructor (copy a DetailSet object)
     public DetailSet(DetailSet old) {
-        this.details = new PriorityQueue<>(old.details);
+        this.details = new ArrayList<>(old.details);
+        // Views are immutable - safe to share
+        this.view = old.view;
     }
 
     /* ======================================================================
@@ -38,46 +48,67 @@ public class DetailSet {
      * ====================================================================== */
 
     /**
-     * Getter: Flattens {@link Detail} {@link PriorityQueue} to a {@link List},
-     * maintaining queue ordering in result without altering the original queue.
+     * Getter: Returns the sorted {@link Detail}s held, as an immutable list.
+     * The same list is returned until this set is next modified.
      *
      * @return Ordered list of Details this object currently posseses
      */
     public List<Detail> getDetails() {
-        List<Detail> list = new ArrayList<>(details.size());
-        PriorityQueue<Detail> copy = new PriorityQueue<>(details);
-        while (!copy.isEmpty()) { list.add(copy.poll()); }
-        return list;
+        List<Detail> v = this.view;
+        if (v == null) {
+            v = Collections.unmodifiableList(new ArrayList<>(details));
+            this.view = v;
+        }
+        return v;
     }
 
     /**
-     * Setter: Add a {@link Detail} to this object.
+     * Setter: Add a {@link Detail} to this object, at its sorted position.
      *
      * @param detail Detail added to this detail set
      */
-    public void add(Detail detail) { this.details.add(detail); }
+    public void add(Detail detail) {
+        int i = Collections.binarySearch(details, detail);
+        // Insert after any equal details, or at the insertion point
+        if (i < 0) i = -i - 1;
+        else while (i < details.size() && details.get(i).compareTo(detail) == 0) { i++; }
+
+        details.add(i, detail);
+        this.view = null;
+    }
 
     /**
      * Setter: Add a {@link List} of {@link Detail}s to this object.
      *
      * @param details Details added to this detail set
      */
-    public void addAll(List<Detail> details) { this.details.addAll(details); }
+    public void addAll(List<Detail> details) {
+        if (details.isEmpty()) return;
+        this.details.addAll(details);
+        // Merges the sorted prefix with the appended run
+        this.details.sort(null);
+        this.view = null;
+    }
 
     /**
-     * Setter: Replace current {@link Detail}s {@link PriorityQueue} with
-     * supplied parameter.
+     * Setter: Replace current {@link Detail}s with supplied parameter.
      *
      * @param details Details overwriting current detail set
      */
-    public void setDetails(PriorityQueue<Detail> details) {
-        this.details = new PriorityQueue<>(details);
+    public void setDetails(Collection<Detail> details) {
+        this.details.clear();
+        this.details.addAll(details);
+        this.details.sort(null);
+        this.view = null;
     }
 
     /**
      * Destructive action - wipe all stored details from this DetailSet.
      */
-    public void clear() { this.details.clear(); }
+    public void clear() {
+        this.details.clear();
+        this.view = null;
+    }
 
     /* ======================================================================
      * --------------------------- Object Methods ---------------------------
@@ -100,9 +100,10 @@ public class Feat extends Entity<Feat> implements CharacterModification, Charact
     private Feat(Builder builder)  {
         this.name = builder.name;
         this.description = builder.description;
-        this.abilityScoreModifiers = builder.abilityScoreModifiers;
-        this.proficiencies = builder.proficiencies;
-        this.choices = builder.choices;
+        // Held immutable, so getters need not copy
+        this.abilityScoreModifiers = List.copyOf(builder.abilityScoreModifiers);
+        this.proficiencies = List.copyOf(builder.proficiencies);
+        this.choices = List.copyOf(builder.choices);
     }
 
     /**
@@ -120,9 +121,9 @@ public class Feat extends Entity<Feat> implements CharacterModification, Charact
             throw new IllegalArgumentException("Constructed Feat must present a non-blank description");
         this.description = description;
 
-        this.abilityScoreModifiers = new ArrayList<>();
-        this.proficiencies = new ArrayList<>();
-        this.choices = new ArrayList<>();
+        this.abilityScoreModifiers = List.of();
+        this.proficiencies = List.of();
+        this.choices = List.of();
     }
 
     /* ======================================================================
@@ -137,17 +138,17 @@ public class Feat extends Entity<Feat> implements CharacterModification, Charact
      * ====================================================================== */
 
     @Override
-    public List<Proficiency> getProficiencies() { return List.copyOf(this.proficiencies); }
+    public List<Proficiency> getProficiencies() { return this.proficiencies; }
 
     @Override
-    public List<AbilityScoreModifier> getAbilityScoreModifiers() { return List.copyOf(this.abilityScoreModifiers); }
+    public List<AbilityScoreModifier> getAbilityScoreModifiers() { return this.abilityScoreModifiers; }
 
     /* ======================================================================
      * ------------------- ChoiceProvider  Implementation -------------------
      * ====================================================================== */
 
     @Override
-    public List<Choice> getChoices() { return List.copyOf(this.choices); }
+    public List<Choice> getChoices() { return this.choices; }
 
     /* ======================================================================
      * ------------------------- Getters & Setters  -------------------------
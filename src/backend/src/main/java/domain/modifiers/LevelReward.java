@@ -24,11 +24,21 @@ public class LevelReward extends Entity<LevelReward> implements CharacterModifie
     // --- Attributes ---
     private final int level;
     private final List<CharacterModifier> rewards;
+    // Flattened reward modifiers - fixed once constructed
+    private final List<? extends Language> languages;
+    private final List<? extends Proficiency> proficiencies;
+    private final List<? extends Feat> feats;
+    private final List<? extends AbilityScoreModifier> abilityScoreModifiers;
 
     // Constructor
     public LevelReward(int level, List<CharacterModifier> rewards) {
         this.level = level;
         this.rewards = List.copyOf(rewards);
+
+        this.languages = all(CharacterModifier::getLanguages);
+        this.proficiencies = all(CharacterModifier::getProficiencies);
+        this.feats = all(CharacterModifier::getFeats);
+        this.abilityScoreModifiers = all(CharacterModifier::getAbilityScoreModifiers);
     }
 
     // Overloaded Constructor (defaults level 1)
@@ -81,27 +91,28 @@ public class LevelReward extends Entity<LevelReward> implements CharacterModifie
 
      @Override
     public List<? extends Language> getLanguages() {
-        return all(CharacterModifier::getLanguages);
+        return this.languages;
     }
 
     @Override
     public List<? extends Proficiency> getProficiencies() {
-        return all(CharacterModifier::getProficiencies);
+        return this.proficiencies;
     }
 
     @Override
     public List<? extends Feat> getFeats() {
-        return all(CharacterModifier::getFeats);
+        return this.feats;
     }
 
     @Override
     public List<? extends AbilityScoreModifier> getAbilityScoreModifiers() {
-        return all(CharacterModifier::getAbilityScoreModifiers);
+        return this.abilityScoreModifiers;
     }
 
     /**
      * Utility method to filter type matching {@link CharacterModifier}
-     * {@code reward} items into one returned list.
+     * {@code reward} items into one returned list. Called once on
+     * construction.
      *
      * @param <X> The type of the filtered list items
      * @param getter The relevant {@link CharacterModifier} getter
@@ -1,11 +1,11 @@
 // java/domain/templates/ClassTemplate.java
 package domain.templates;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import domain.builders.AbstractBuilder;
 import domain.character.Character;
@@ -22,6 +22,13 @@ import domain.utils.StringUtils;
  */
 public class ClassTemplate extends Entity<ClassTemplate> implements CharacterModifier {
 
+    // --- Constants ---
+    // Highest level a reward is expected at - higher levels are still indexed
+    private static final int MAX_LEVEL = 20;
+    // Reward ordering - by level first, so each level is a contiguous run
+    private static final Comparator<LevelReward> LEVEL_ORDER =
+        Comparator.comparingInt(LevelReward::getLevel).thenComparing(Comparator.naturalOrder());
+
     // --- Attributes ---
     // Simple attributes
     private final String name;
@@ -32,6 +39,10 @@ public class ClassTemplate extends Entity<ClassTemplate> implements CharacterMod
     private final DetailSet details;
     private final ClassTemplate parentClass;
     private final Map<Integer, LevelReward> levelRewards;
+    // Level index - this and parent class rewards, sorted, and per level the
+    // count of those at or below it
+    private final List<LevelReward> sortedRewards;
+    private final int[] levelEnds;
 
     /* ======================================================================
      * -------------------------- Builder  Pattern --------------------------
@@ -129,7 +140,10 @@ public class ClassTemplate extends Entity<ClassTemplate> implements CharacterMod
 
         this.details = builder.details;
         this.parentClass = builder.parentClass;
-        this.levelRewards = builder.levelRewards;
+        this.levelRewards = Map.copyOf(builder.levelRewards);
+
+        this.sortedRewards = sortRewards();
+        this.levelEnds = indexLevels(this.sortedRewards);
     }
 
     /* ======================================================================
@@ -149,7 +163,7 @@ public class ClassTemplate extends Entity<ClassTemplate> implements CharacterMod
      * class. Sorted from lowest to highest level.
      */
     public List<LevelReward> getAllLevelRewards() {
-        return recursiveFilterRewards(reward -> true);
+        return this.sortedRewards;
     }
 
     /**
@@ -160,7 +174,7 @@ public class ClassTemplate extends Entity<ClassTemplate> implements CharacterMod
      * @return Sorted list of level rewards below level param
      */
     public List<LevelReward> getLesserLevelRewards(int level) {
-        return recursiveFilterRewards(reward -> reward.getLevel() <= level);
+        return this.sortedRewards.subList(0, rewardsUpTo(level));
     }
 
     /**
@@ -171,43 +185,55 @@ public class ClassTemplate extends Entity<ClassTemplate> implements CharacterMod
      * @return Sorted list of level rewards at level param
      */
     public List<LevelReward> getLevelReward(int level) {
-        return recursiveFilterRewards(reward -> reward.getLevel() == level);
+        return this.sortedRewards.subList(rewardsUpTo(level - 1), rewardsUpTo(level));
     }
 
     /* -------------------------- Utility  Methods -------------------------- */
 
     /**
-     * Utility method to recursively retrieve a {@link Stream} of
-     * {@link LevelReward}s supplied by this class and parent class pathway.
+     * Utility method to count the {@link LevelReward}s at or below a level -
+     * the end of that level's slice of {@code sortedRewards}.
      *
-     * @param filter A boolean-valued filter function evaluated on level rewards
-     * @return Stream of level rewards satisfying {@code filter}
+     * @param level (Inclusive) level cap
+     * @return Number of level rewards at or below level param
      */
-    private Stream<LevelReward> recursiveFilterRewardsStream(Predicate<LevelReward> filter) {
-        return Stream.concat(
-            // Current class rewards filtered
-            levelRewards.values().stream()
-                .filter(filter),
-
-            // Filtered parent class rewards if parent present
-            this.parentClass != null
-                ? this.parentClass.recursiveFilterRewardsStream(filter)
-                : Stream.empty()
-        );
+    private int rewardsUpTo(int level) {
+        if (level < 0) return 0;
+        return this.levelEnds[Math.min(level, this.levelEnds.length - 1)];
     }
 
     /**
-     * Utility method to shorthand conversion from the following methods
-     * {@link Stream} output to a sorted {@link List}:
-     * {@link #recursiveFilterRewardsStream(Predicate)}
+     * Utility method to merge this class' {@link LevelReward}s with those of
+     * the parent class pathway, which is already sorted. Rewards at the same
+     * level keep this class' ahead of the parent's.
      *
-     * <p>Sorts list ascending on total {@link LevelReward} levels.
+     * @return Unmodifiable sorted list of all level rewards
+     */
+    private List<LevelReward> sortRewards() {
+        List<LevelReward> rewards = new ArrayList<>(levelRewards.values());
+        if (this.parentClass != null) rewards.addAll(this.parentClass.sortedRewards);
+        // Stable, so ties keep this class' rewards first
+        rewards.sort(LEVEL_ORDER);
+        return List.copyOf(rewards);
+    }
+
+    /**
+     * Utility method to index sorted {@link LevelReward}s by level, such that
+     * {@code ends[n]} counts the rewards at or below level {@code n}.
      *
-     * @param filter A boolean-valued filter function evaluated on level rewards
-     * @return Sorted list of level rewards satisfying {@code filter}
+     * @param rewards Level rewards sorted by level
+     * @return Cumulative reward count per level, from 0 to the highest level
      */
-    private List<LevelReward> recursiveFilterRewards(Predicate<LevelReward> filter) {
-        return recursiveFilterRewardsStream(filter).sorted().toList();
+    private static int[] indexLevels(List<LevelReward> rewards) {
+        int highest = rewards.isEmpty() ? 0 : rewards.get(rewards.size() - 1).getLevel();
+        int[] ends = new int[Math.max(MAX_LEVEL, highest) + 1];
+
+        int i = 0;
+        for (int level = 0; level < ends.length; level++) {
+            while (i < rewards.size() && rewards.get(i).getLevel() <= level) { i++; }
+            ends[level] = i;
+        }
+        return ends;
     }
 
     /* ======================================================================
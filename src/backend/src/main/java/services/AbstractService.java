@@ -1,16 +1,111 @@
 // java/services/AbstractService.java
 package services;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
 import jakarta.servlet.http.HttpServletResponse;
 
+import datasource.Database;
+import datasource.mappers.MapperRegistry;
+import datasource.utils.SQLExceptionTranslator;
+import domain.core.Entity;
+import services.cache.NegativeCache;
+import services.catalog.RulesCatalog;
+
 /**
  * Abstract base service layer component - defines shared logic in services.
  *
  * <p> {@link OperationResult} is defined here for wrapping service responses
  * for Controller use.
+ *
+ * <p> Service reads are served from the in-memory {@link RulesCatalog}, while
+ * writes go through the {@link datasource.UnitOfWork}.
  */
 public class AbstractService {
 
+    /* ------------------------- Catalog Miss Lookup ------------------------ */
+
+    /**
+     * Fallback lookup for an entity absent from the {@link RulesCatalog}
+     * snapshot - it may have been written by another node since this node's
+     * snapshot was built. IDs confirmed missing are remembered in the supplied
+     * {@link NegativeCache}, so repeat lookups skip the database.
+     *
+     * @param <T> type of the entity queried
+     * @param classOfT {@code .class} of the entity queried
+     * @param id uniquely identifying PK of the entity in the database
+     * @param missing negative cache for entities of type {@code T}
+     * @return entity if found, {@code null} if otherwise
+     */
+    protected static <T> T findMissing(Class<T> classOfT, long id, NegativeCache missing) {
+        if (missing.isMissing(id)) return null;
+
+        try (Connection conn = Database.getConnection()) {
+            Optional<T> found = MapperRegistry.getMapper(classOfT).findById(id, conn);
+            if (found.isEmpty()) missing.markMissing(id);
+            return found.orElse(null);
+
+        } catch (SQLException e) {
+            // Catch unexpected SQLException thrown by Connection on .close()
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
+    /**
+     * Multi-ID lookup, served from the {@link RulesCatalog} snapshot where
+     * possible. IDs absent from the snapshot (and not known missing) are read
+     * together, with a single database query per entity type.
+     *
+     * @param <T> type of the entities queried
+     * @param classOfT {@code .class} of the entities queried
+     * @param ids uniquely identifying PKs of the entities in the database
+     * @param lookup snapshot lookup by ID, returning null if absent
+     * @param missing negative cache for entities of type {@code T}
+     * @return entities found, in the order of {@code ids}
+     */
+    protected static <T extends Entity<?>> List<T> findAllById(
+        Class<T> classOfT, long[] ids, LongFunction<T> lookup, NegativeCache missing
+    ) {
+        List<T> found = new ArrayList<>(ids.length);
+        long[] misses = new long[ids.length];
+        int missCount = 0;
+        for (long id : ids) {
+            if (lookup.apply(id) == null && !missing.isMissing(id)) misses[missCount++] = id;
+        }
+
+        // Resolve all snapshot misses at once
+        Map<Long, T> read = new HashMap<>();
+        if (missCount > 0) {
+            misses = Arrays.copyOf(misses, missCount);
+            try (Connection conn = Database.getConnection()) {
+                for (T t : MapperRegistry.getMapper(classOfT).findAllById(misses, conn)) {
+                    read.put(t.getId().value(), t);
+                }
+            } catch (SQLException e) {
+                // Catch unexpected SQLException thrown by Connection on .close()
+                throw SQLExceptionTranslator.translate(e);
+            }
+            for (long id : misses) {
+                if (!read.containsKey(id)) missing.markMissing(id);
+            }
+        }
+
+        for (long id : ids) {
+            T t = lookup.apply(id);
+            if (t == null) t = read.get(id);
+            if (t != null) found.add(t);
+        }
+        return found;
+    }
+
     /* --------------------- Controller  Communication ---------------------- */
 
     /**
@@ -1,18 +1,15 @@
 // java/services/AsmService.java
 package services;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 
-import datasource.Database;
 import datasource.UnitOfWork;
 import datasource.mappers.CharacterModifierMapper;
-import datasource.mappers.MapperRegistry;
-import datasource.utils.SQLExceptionTranslator;
 import domain.modifiers.AbilityScoreModifier;
 import domain.types.ModificationType;
+import services.cache.NegativeCache;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
 
 /**
  * Service layer component for {@link AbilityScoreModifier}, containing all
@@ -21,6 +18,9 @@ import domain.types.ModificationType;
  */
 public class AsmService extends AbstractService {
 
+    // --- Constants ---
+    private static final NegativeCache MISSING = NegativeCache.forType(AbilityScoreModifier.class);
+
     /* ------------------------ Business  Operations ------------------------ */
 
     /**
@@ -31,16 +31,20 @@ public class AsmService extends AbstractService {
      * @return {@link AbilityScoreModifier} if found, {@code null} if otherwise
      */
     public static AbilityScoreModifier getById(long id) {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            Optional<AbilityScoreModifier> found =
-                MapperRegistry.getMapper(AbilityScoreModifier.class).findById(id, conn);
-            return found.orElse(null);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        AbilityScoreModifier asm = RulesCatalog.get().getAsm(id);
+        return asm != null ? asm : findMissing(AbilityScoreModifier.class, id, MISSING);
+    }
+
+    /**
+     * Returns all {@link AbilityScoreModifier}s with any of the passed IDs, in the same order.
+     * IDs without a modifier are skipped.
+     *
+     * @param ids uniquely identifying PKs of modifiers in the database
+     * @return {@link List} of modifiers found
+     */
+    public static List<AbilityScoreModifier> getAllById(long[] ids) {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        return findAllById(AbilityScoreModifier.class, ids, snapshot::getAsm, MISSING);
     }
 
     /**
@@ -49,13 +53,7 @@ public class AsmService extends AbstractService {
      * @return {@link List} of AbilityScoreModifiers stored in the database
      */
     public static List<AbilityScoreModifier> getAll() {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            return MapperRegistry.getMapper(AbilityScoreModifier.class).findAll(conn);
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        return RulesCatalog.get().getAsms();
     }
 
     /**
@@ -77,6 +75,20 @@ public class AsmService extends AbstractService {
             : OperationResult.DB_FAILURE;
     }
 
+    /**
+     * Begin a bulk import of new {@link AbilityScoreModifier}s, committed in
+     * a single transaction.
+     *
+     * @return empty {@link BulkImport} validating each modifier added
+     */
+    public static BulkImport<AbilityScoreModifier> newImport() {
+        return new BulkImport<>(asm ->
+            asm.getAbility() == null || asm.getValue() == 0
+                ? "Ability and a non-zero value are required"
+                : null
+        );
+    }
+
     /**
      * Commit changes to an existing {@link AbilityScoreModifier} to the
      * database. Will not commit ASMs that lack a set ID - use {@link
@@ -0,0 +1,103 @@
+// java/services/BulkImport.java
+package services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import datasource.UnitOfWork;
+import domain.core.Entity;
+import services.AbstractService.OperationResult;
+
+/**
+ * Service layer component collecting many new entities, record by record, into
+ * a single {@link UnitOfWork}. Either every record is inserted in one
+ * transaction, or (if any record is rejected) none are.
+ *
+ * <p> Records are validated as they arrive, so per-record errors are known
+ * without holding the raw input. Once a record is rejected, later valid
+ * records are only counted, not retained.
+ *
+ * @param <T> type of the entities imported
+ */
+public class BulkImport<T extends Entity<?>> {
+
+    /**
+     * A rejected record.
+     *
+     * @param line 1-based line number of the record in the input
+     * @param message reason the record was rejected
+     */
+    public record LineError(long line, String message) {}
+
+    // --- Constants ---
+    // Rejections beyond this are counted but not detailed
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    // --- Attributes ---
+    private final Function<T, String> validator;
+    private final UnitOfWork uow = new UnitOfWork();
+    private final List<LineError> errors = new ArrayList<>();
+    private long accepted;
+    private long rejected;
+
+    /**
+     * @param validator returns a reason to reject an entity, or null if valid
+     */
+    BulkImport(Function<T, String> validator) {
+        this.validator = validator;
+    }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Validate and register a new entity read from the input.
+     *
+     * @param line line number of the record
+     * @param obj entity read, or null if the record was empty
+     */
+    public void add(long line, T obj) {
+        String error = obj == null ? "Empty record"
+            : obj.hasId() ? "ID should not be attached"
+            : validator.apply(obj);
+        if (error != null) { reject(line, error); return; }
+
+        accepted++;
+        // Nothing will be committed once any record is rejected
+        if (rejected == 0) uow.registerNew(obj);
+    }
+
+    /**
+     * Record a line that could not be read as an entity.
+     *
+     * @param line line number of the record
+     * @param message reason the record was rejected
+     */
+    public void reject(long line, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new LineError(line, message));
+    }
+
+    /**
+     * Insert all registered entities in a single transaction, provided no
+     * record was rejected.
+     *
+     * @return {@link OperationResult} defining the success state of this action
+     */
+    public OperationResult commit() {
+        if (rejected > 0 || accepted == 0) return OperationResult.ILLEGAL_ENTITY;
+
+        UnitOfWork.setCurrent(uow);
+        return uow.commit()
+            ? OperationResult.CREATED
+            : OperationResult.DB_FAILURE;
+    }
+
+    // --- Getters ---
+    public long getAccepted() { return this.accepted; }
+    public long getRejected() { return this.rejected; }
+    public List<LineError> getErrors() { return Collections.unmodifiableList(this.errors); }
+}
@@ -0,0 +1,69 @@
+// java/services/BundleService.java
+package services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import domain.types.ProficiencyType;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
+
+/**
+ * Service layer component combining several catalog lists into one bundle,
+ * so clients can load everything they need in a single round trip.
+ */
+public class BundleService extends AbstractService {
+
+    // --- Constants ---
+    // Everything, if no parts are requested
+    private static final List<String> ALL = List.of("asm", "feat", "language", "proficiency");
+
+    /* ------------------------ Business  Operations ------------------------ */
+
+    /**
+     * Returns the requested catalog lists, all read from a single catalog
+     * snapshot, so the bundle is consistent even while content changes.
+     *
+     * <p> Parts are named as the matching list endpoints: {@code asm},
+     * {@code feat}, {@code language}, and {@code proficiency:{type}}. A bare
+     * {@code proficiency} includes every type.
+     *
+     * @param parts names of the lists included, or empty for all
+     * @return unmodifiable map of part name to list, in requested order
+     * @throws IllegalArgumentException if any part is unrecognised
+     */
+    public static Map<String, List<?>> getBundle(List<String> parts) {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        Map<String, List<?>> bundle = new LinkedHashMap<>();
+        for (String part : parts.isEmpty() ? ALL : parts) {
+            String name = part.trim().toLowerCase();
+            switch (name) {
+                case "asm" -> bundle.put(name, snapshot.getAsms());
+                case "feat" -> bundle.put(name, snapshot.getFeatSummaries());
+                case "language" -> bundle.put(name, snapshot.getLanguages());
+                case "proficiency" -> {
+                    for (ProficiencyType type : ProficiencyType.values()) {
+                        bundle.put(proficiencyKey(type), snapshot.getProficiencies(type));
+                    }
+                }
+                default -> {
+                    if (!name.startsWith("proficiency:")) {
+                        throw new IllegalArgumentException("Unknown bundle part: " + part);
+                    }
+                    ProficiencyType type = ProficiencyType.fromString(name.substring("proficiency:".length()));
+                    bundle.put(proficiencyKey(type), snapshot.getProficiencies(type));
+                }
+            }
+        }
+        return Collections.unmodifiableMap(bundle);
+    }
+
+    /**
+     * Utility method to name the bundle part for a proficiency type.
+     */
+    private static String proficiencyKey(ProficiencyType type) {
+        return "proficiency:" + type.name().toLowerCase();
+    }
+}
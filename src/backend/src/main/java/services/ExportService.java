@@ -0,0 +1,90 @@
+// java/services/ExportService.java
+package services;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import domain.types.ProficiencyType;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
+
+/**
+ * Service layer component for exporting catalog content in bulk, e.g. for
+ * backups or analytics. Entities are handed over one at a time, so callers
+ * can stream them out without building full lists.
+ */
+public class ExportService extends AbstractService {
+
+    /**
+     * ENUM identifying exportable catalog resources. Declared in dependency
+     * order - supplies precede the feats referencing them.
+     */
+    public enum Resource {
+        // --- Enumerations ---
+        ASM, LANGUAGE, PROFICIENCY, FEAT;
+
+        // --- Getter ---
+        public String getName() { return name().toLowerCase(); }
+
+        /**
+         * Convert a resource name (as used in API paths) to a Resource.
+         *
+         * @param value resource name, case-insensitive
+         * @return matching Resource
+         * @throws IllegalArgumentException if unrecognised
+         */
+        public static Resource fromString(String value) throws IllegalArgumentException {
+            return Resource.valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    /**
+     * A {@link FunctionalInterface} receiving each exported entity in turn.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * @param resource resource the entity belongs to
+         * @param entity fully built entity exported
+         * @throws IOException on failure to write the entity out
+         */
+        void accept(Resource resource, Object entity) throws IOException;
+    }
+
+    /* ------------------------ Business  Operations ------------------------ */
+
+    /**
+     * Pass every entity of the requested resources to {@code sink}, in
+     * {@link Resource} order. All entities are read from a single catalog
+     * snapshot, so the export is consistent even while content changes.
+     * Feats are exported with all supplied CharacterModifications.
+     *
+     * @param resources resources exported
+     * @param sink receiver of each entity
+     * @throws IOException if {@code sink} fails
+     */
+    public static void exportAll(Set<Resource> resources, Sink sink) throws IOException {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        for (Resource resource : Resource.values()) {
+            if (!resources.contains(resource)) continue;
+            switch (resource) {
+                case ASM -> export(resource, snapshot.getAsms(), sink);
+                case LANGUAGE -> export(resource, snapshot.getLanguages(), sink);
+                case FEAT -> export(resource, snapshot.getFeats(), sink);
+                case PROFICIENCY -> {
+                    for (ProficiencyType type : ProficiencyType.values()) {
+                        export(resource, snapshot.getProficiencies(type), sink);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Utility method to pass each entity of a list to the sink.
+     */
+    private static void export(Resource resource, List<?> entities, Sink sink) throws IOException {
+        for (Object entity : entities) { sink.accept(resource, entity); }
+    }
+}
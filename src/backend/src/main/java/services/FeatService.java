@@ -1,18 +1,15 @@
 // java/services/FeatService.java
 package services;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 
-import datasource.Database;
 import datasource.UnitOfWork;
 import datasource.mappers.CharacterModifierMapper;
-import datasource.mappers.MapperRegistry;
-import datasource.utils.SQLExceptionTranslator;
 import domain.modifiers.Feat;
 import domain.types.ModificationType;
+import services.cache.NegativeCache;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
 
 /**
  * Service layer component for {@link Feat}, containing all
@@ -21,6 +18,9 @@ import domain.types.ModificationType;
  */
 public class FeatService extends AbstractService {
 
+    // --- Constants ---
+    private static final NegativeCache MISSING = NegativeCache.forType(Feat.class);
+
     /* ------------------------ Business  Operations ------------------------ */
 
     /**
@@ -31,16 +31,20 @@ public class FeatService extends AbstractService {
      * @return {@link Feat} object if found, {@code null} if otherwise
      */
     public static Feat getById(long id) {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            Optional<Feat> found =
-                MapperRegistry.getMapper(Feat.class).findById(id, conn);
-            return found.orElse(null);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        Feat feat = RulesCatalog.get().getFeat(id);
+        return feat != null ? feat : findMissing(Feat.class, id, MISSING);
+    }
+
+    /**
+     * Returns all {@link Feat}s with any of the passed IDs, in the same order.
+     * IDs without a Feat are skipped.
+     *
+     * @param ids uniquely identifying PKs of feats in the database
+     * @return {@link List} of feats found
+     */
+    public static List<Feat> getAllById(long[] ids) {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        return findAllById(Feat.class, ids, snapshot::getFeat, MISSING);
     }
 
     /**
@@ -50,14 +54,7 @@ public class FeatService extends AbstractService {
      * @return {@link List} of Feats stored in the database
      */
     public static List<Feat> getAll() {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            return MapperRegistry.getMapper(Feat.class).findAll(conn);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        return RulesCatalog.get().getFeatSummaries();
     }
 
     /**
@@ -79,6 +76,20 @@ public class FeatService extends AbstractService {
             : OperationResult.DB_FAILURE;
     }
 
+    /**
+     * Begin a bulk import of new {@link Feat}s, committed in a single
+     * transaction.
+     *
+     * @return empty {@link BulkImport} validating each Feat added
+     */
+    public static BulkImport<Feat> newImport() {
+        return new BulkImport<>(feat ->
+            feat.getName() == null || feat.getDescription() == null
+                ? "Feat name and description are required"
+                : null
+        );
+    }
+
     /**
      * Commit changes to an existing {@link Feat} to the
      * database. Will not commit feats that lack a set ID - use {@link
@@ -1,18 +1,15 @@
 // java/services/LanguageService.java
 package services;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 
-import datasource.Database;
 import datasource.UnitOfWork;
 import datasource.mappers.CharacterModifierMapper;
-import datasource.mappers.MapperRegistry;
-import datasource.utils.SQLExceptionTranslator;
 import domain.modifiers.Language;
 import domain.types.ModificationType;
+import services.cache.NegativeCache;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
 
 /**
  * Service layer component for {@link Language}, containing all business level
@@ -21,6 +18,9 @@ import domain.types.ModificationType;
  */
 public class LanguageService extends AbstractService {
 
+    // --- Constants ---
+    private static final NegativeCache MISSING = NegativeCache.forType(Language.class);
+
     /* ------------------------ Business  Operations ------------------------ */
 
     /**
@@ -30,15 +30,20 @@ public class LanguageService extends AbstractService {
      * @return {@link Language} object if found, {@code null} if otherwise
      */
     public static Language getById(long id) {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            Optional<Language> found = MapperRegistry.getMapper(Language.class).findById(id, conn);
-            return found.orElse(null);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        Language language = RulesCatalog.get().getLanguage(id);
+        return language != null ? language : findMissing(Language.class, id, MISSING);
+    }
+
+    /**
+     * Returns all {@link Language}s with any of the passed IDs, in the same order.
+     * IDs without a Language are skipped.
+     *
+     * @param ids uniquely identifying PKs of languages in the database
+     * @return {@link List} of languages found
+     */
+    public static List<Language> getAllById(long[] ids) {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        return findAllById(Language.class, ids, snapshot::getLanguage, MISSING);
     }
 
     /**
@@ -47,14 +52,7 @@ public class LanguageService extends AbstractService {
      * @return {@link List} of Languages stored in the database
      */
     public static List<Language> getAll() {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            return MapperRegistry.getMapper(Language.class).findAll(conn);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        return RulesCatalog.get().getLanguages();
     }
 
     /**
@@ -76,6 +74,18 @@ public class LanguageService extends AbstractService {
             : OperationResult.DB_FAILURE;
     }
 
+    /**
+     * Begin a bulk import of new {@link Language}s, committed in a single
+     * transaction.
+     *
+     * @return empty {@link BulkImport} validating each Language added
+     */
+    public static BulkImport<Language> newImport() {
+        return new BulkImport<>(language ->
+            language.getName() == null ? "Language name is required" : null
+        );
+    }
+
     /**
      * Commit changes to an existing {@link Language} to the database.
      * Will not commit languages that lack a set ID - use {@link
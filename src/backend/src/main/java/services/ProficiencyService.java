@@ -1,23 +1,19 @@
 // java/services/ProficiencyService.java
 package services;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.List;
-import java.util.Optional;
 
-import datasource.Database;
 import datasource.UnitOfWork;
 import datasource.mappers.CharacterModifierMapper;
-import datasource.mappers.MapperRegistry;
-import datasource.mappers.proficiency.ProficiencyMapper;
-import datasource.utils.SQLExceptionTranslator;
 import domain.modifiers.proficiency.ArmourProficiency;
 import domain.modifiers.proficiency.Proficiency;
 import domain.modifiers.proficiency.SkillProficiency;
 import domain.modifiers.proficiency.ToolProficiency;
 import domain.types.ModificationType;
 import domain.types.ProficiencyType;
+import services.cache.NegativeCache;
+import services.catalog.CatalogSnapshot;
+import services.catalog.RulesCatalog;
 
 /**
  * Service layer component for {@link Proficiency} entities, containing all
@@ -26,6 +22,9 @@ import domain.types.ProficiencyType;
  */
 public class ProficiencyService extends AbstractService {
 
+    // --- Constants ---
+    private static final NegativeCache MISSING = NegativeCache.forType(Proficiency.class);
+
     /* ------------------------ Business  Operations ------------------------ */
 
     /**
@@ -36,15 +35,20 @@ public class ProficiencyService extends AbstractService {
      * @return {@link Proficiency} object if found, {@code null} if otherwise
      */
     public static Proficiency getById(long id) {
-        // TODO: Delegate this operation to a repository
-        try (Connection conn = Database.getConnection()) {
-            Optional<Proficiency> found = MapperRegistry.getMapper(Proficiency.class).findById(id, conn);
-            return found.orElse(null);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        Proficiency proficiency = RulesCatalog.get().getProficiency(id);
+        return proficiency != null ? proficiency : findMissing(Proficiency.class, id, MISSING);
+    }
+
+    /**
+     * Returns all {@link Proficiency}s with any of the passed IDs, in the same order.
+     * IDs without a Proficiency are skipped.
+     *
+     * @param ids uniquely identifying PKs of proficiencies in the database
+     * @return {@link List} of proficiencies found
+     */
+    public static List<Proficiency> getAllById(long[] ids) {
+        CatalogSnapshot snapshot = RulesCatalog.get();
+        return findAllById(Proficiency.class, ids, snapshot::getProficiency, MISSING);
     }
 
     /* ........................... getAllByType() ........................... */
@@ -57,14 +61,7 @@ public class ProficiencyService extends AbstractService {
      * @return a deeply initiated {@link List} of proficiencies of queried type
      */
     public static List<? extends Proficiency> getAllByType(ProficiencyType type) {
-        try (Connection conn = Database.getConnection()) {
-            ProficiencyMapper mapper = (ProficiencyMapper) MapperRegistry.getMapper(Proficiency.class);
-            return mapper.findAllByType(type, conn);
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        return RulesCatalog.get().getProficiencies(type);
     }
 
     /**
@@ -83,17 +80,10 @@ public class ProficiencyService extends AbstractService {
     private static <T extends Proficiency> List<T> getAllByType(
         ProficiencyType type, Class<T> classOfT
     ) {
-        try (Connection conn = Database.getConnection()) {
-            ProficiencyMapper mapper = (ProficiencyMapper) MapperRegistry.getMapper(Proficiency.class);
-            return mapper.findAllByType(type, conn)
-                .stream()
-                .map(classOfT::cast)
-                .toList();
-
-        } catch (SQLException e) {
-            // Catch unexpected SQLException thrown by Connection on .close()
-            throw SQLExceptionTranslator.translate(e);
-        }
+        return RulesCatalog.get().getProficiencies(type)
+            .stream()
+            .map(classOfT::cast)
+            .toList();
     }
 
     /**
@@ -144,6 +134,16 @@ public class ProficiencyService extends AbstractService {
             : OperationResult.DB_FAILURE;
     }
 
+    /**
+     * Begin a bulk import of new {@link Proficiency}s of any type, committed
+     * in a single transaction.
+     *
+     * @return empty {@link BulkImport} validating each Proficiency added
+     */
+    public static BulkImport<Proficiency> newImport() {
+        return new BulkImport<>(ProficiencyService::validate);
+    }
+
     /**
      * Commit changes to an existing {@link Proficiency} to the database.
      * Will not commit proficiencies that lack a set ID - use {@link
@@ -187,4 +187,24 @@ public class ProficiencyService extends AbstractService {
             ? OperationResult.SUCCESS
             : OperationResult.DB_FAILURE;
     }
+
+    /* -------------------------- Private  Methods -------------------------- */
+
+    /**
+     * Utility method to check a new proficiency carries its required fields.
+     *
+     * @return reason the proficiency is invalid, or null if valid
+     */
+    private static String validate(Proficiency proficiency) {
+        if (proficiency instanceof SkillProficiency skill) {
+            return skill.getSkill() == null ? "Skill is required" : null;
+        }
+        if (proficiency instanceof ArmourProficiency armour) {
+            return armour.getType() == null ? "Armour type is required" : null;
+        }
+        if (proficiency instanceof ToolProficiency tool) {
+            return tool.getName() == null || tool.getType() == null ? "Tool name and type are required" : null;
+        }
+        return "Unsupported proficiency type";
+    }
 }
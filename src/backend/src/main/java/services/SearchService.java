@@ -0,0 +1,44 @@
+// java/services/SearchService.java
+package services;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import services.catalog.RulesCatalog;
+import services.catalog.SearchIndex;
+
+/**
+ * Service layer component for free text search over catalog content - feat,
+ * language and proficiency names and descriptions - served from the current
+ * snapshot's in-memory {@link SearchIndex}, never the database.
+ */
+public class SearchService extends AbstractService {
+
+    // --- Constants ---
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    /* ------------------------ Business  Operations ------------------------ */
+
+    /**
+     * Returns the catalog entities best matching a query, best first. Every
+     * word must match, exactly, by prefix, or approximately.
+     *
+     * @param query free text, e.g. {@code "dwarv"}
+     * @param types resource types searched ({@code feat}, {@code language},
+     *        {@code proficiency}), or empty for all
+     * @param limit most results returned - clamped to {@link #MAX_LIMIT}
+     * @return {@link List} of matches, possibly empty
+     * @throws IllegalArgumentException if any type is unrecognised
+     */
+    public static List<SearchIndex.Hit> search(String query, List<String> types, int limit) {
+        Set<String> included = new TreeSet<>();
+        for (String type : types) {
+            String name = type.trim().toLowerCase();
+            if (!SearchIndex.TYPES.contains(name)) throw new IllegalArgumentException("Unknown search type: " + type);
+            included.add(name);
+        }
+        return RulesCatalog.get().getSearchIndex().search(query, included, Math.min(limit, MAX_LIMIT));
+    }
+}
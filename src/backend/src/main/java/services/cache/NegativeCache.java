@@ -0,0 +1,120 @@
+// java/services/cache/NegativeCache.java
+package services.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import config.Env;
+import datasource.UnitOfWork;
+import domain.core.Entity;
+
+/**
+ * A short-lived cache of entity IDs known not to exist in the database, kept
+ * per entity type. Lets repeated lookups of dead IDs be answered without
+ * borrowing a pooled connection.
+ *
+ * <p> Entries expire after {@code NEGATIVE_CACHE_TTL_MS} milliseconds, and are
+ * invalidated as soon as a local {@link UnitOfWork} insert assigns that ID.
+ */
+public class NegativeCache {
+
+    // --- Constants ---
+    private static final long DEFAULT_TTL_MS = 30_000;
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_NANOS = readTtl() * 1_000_000L;
+
+    // All caches created, for commit invalidation
+    private static final List<NegativeCache> CACHES = new CopyOnWriteArrayList<>();
+    static {
+        // Forget misses for any IDs assigned by an insert
+        UnitOfWork.addCommitListener((inserted, updated, deleted) -> {
+            for (Object obj : inserted) {
+                if (!(obj instanceof Entity<?> entity) || !entity.hasId()) continue;
+                for (NegativeCache cache : CACHES) {
+                    if (cache.type.isInstance(obj)) cache.invalidate(entity.getId().value());
+                }
+            }
+        });
+    }
+
+    // --- Attributes ---
+    private final Class<?> type;
+    // ID -> System.nanoTime() expiry
+    private final Map<Long, Long> expiries = new ConcurrentHashMap<>();
+
+    // Private Constructor (use forType)
+    private NegativeCache(Class<?> type) { this.type = type; }
+
+    /**
+     * Create a negative cache for a particular entity type. Inserts of that
+     * type (or any subtype) invalidate matching entries.
+     *
+     * @param type {@code .class} of the entity type cached
+     * @return new, registered NegativeCache
+     */
+    public static NegativeCache forType(Class<?> type) {
+        NegativeCache cache = new NegativeCache(type);
+        CACHES.add(cache);
+        return cache;
+    }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * @param id entity ID queried
+     * @return true if {@code id} was recently found missing, false otherwise
+     */
+    public boolean isMissing(long id) {
+        Long expiry = expiries.get(id);
+        if (expiry == null) return false;
+        if (expiry - System.nanoTime() > 0) return true;
+        // Lazily evict expired entry
+        expiries.remove(id, expiry);
+        return false;
+    }
+
+    /**
+     * Record that {@code id} does not currently exist.
+     *
+     * @param id entity ID found missing
+     */
+    public void markMissing(long id) {
+        if (expiries.size() >= MAX_ENTRIES) evict();
+        expiries.put(id, System.nanoTime() + TTL_NANOS);
+    }
+
+    /**
+     * Forget any recorded miss for {@code id}.
+     *
+     * @param id entity ID now present
+     */
+    public void invalidate(long id) { expiries.remove(id); }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Keep the cache bounded - drop expired entries, or everything if a flood
+     * of distinct IDs has filled it within one TTL.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        expiries.values().removeIf(expiry -> expiry - now <= 0);
+        if (expiries.size() >= MAX_ENTRIES) expiries.clear();
+    }
+
+    /**
+     * Read configured TTL, falling back to the default if unset or invalid.
+     */
+    private static long readTtl() {
+        String value = Env.get("NEGATIVE_CACHE_TTL_MS");
+        if (value == null || value.isBlank()) return DEFAULT_TTL_MS;
+        try { return Long.parseLong(value.trim()); }
+        catch (NumberFormatException e) { return DEFAULT_TTL_MS; }
+    }
+}
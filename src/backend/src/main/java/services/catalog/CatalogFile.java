@@ -0,0 +1,299 @@
+// java/services/catalog/CatalogFile.java
+package services.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import datasource.mappers.CatalogVersionMapper.Version;
+import domain.core.Entity;
+import domain.core.EntityId;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.ArmourProficiency;
+import domain.modifiers.proficiency.Proficiency;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
+import domain.types.Ability;
+import domain.types.ArmourType;
+import domain.types.ProficiencyType;
+import domain.types.Skill;
+import domain.types.ToolType;
+
+/**
+ * Utility class to persist a {@link CatalogSnapshot} to a compact binary file,
+ * and to map it back in on restart without querying every table.
+ *
+ * <p> Layout (big-endian): magic, format version, data {@link Version} epoch
+ * and value, then ASMs, languages, proficiencies per {@link ProficiencyType}
+ * and feats (supplies as ID lists), followed by a CRC32 of all prior bytes.
+ * Strings are length-prefixed UTF-8, with length {@code -1} for null.
+ */
+public class CatalogFile {
+
+    // --- Constants ---
+    private static final int MAGIC = 0x444E4443; // "DNDC"
+    // Bump whenever the layout below changes
+    private static final int FORMAT_VERSION = 1;
+
+    // Private Constructor (disallow instantiation)
+    private CatalogFile() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Write a snapshot to {@code path}. The file is written alongside, then
+     * atomically moved into place, so readers never observe a partial file.
+     *
+     * @param snapshot snapshot persisted
+     * @param path file written
+     * @throws IOException on failure to write the file
+     */
+    public static void write(CatalogSnapshot snapshot, Path path) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+                writeBody(snapshot, out);
+                out.flush();
+                // Trailer is not itself checksummed
+                new DataOutputStream(file).writeLong(crc.getValue());
+            }
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Map a snapshot file back in, provided it was written at {@code expected}.
+     *
+     * @param path file read
+     * @param expected current rules content version
+     * @return snapshot read, or null if the file is missing, stale or corrupt
+     */
+    public static CatalogSnapshot read(Path path, Version expected) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            // Header - reject other formats and versions before decoding anything
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) return null;
+            Version version = new Version(buf.getLong(), buf.getLong());
+            if (!version.equals(expected)) return null;
+
+            // Trailer - verify checksum over everything before it
+            int end = buf.limit() - Long.BYTES;
+            CRC32 crc = new CRC32();
+            crc.update(buf.duplicate().position(0).limit(end));
+            if (crc.getValue() != buf.getLong(end)) {
+                System.err.println("Catalog snapshot file is corrupt: " + path);
+                return null;
+            }
+
+            return readBody(buf.limit(end), version);
+
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            // Includes truncated files and unknown enum names
+            System.err.println("Failed to read catalog snapshot file: " + e);
+            return null;
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------------ Encoding ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Write header and all catalog content.
+     */
+    private static void writeBody(CatalogSnapshot snapshot, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(snapshot.getVersion().epoch());
+        out.writeLong(snapshot.getVersion().value());
+
+        List<AbilityScoreModifier> asms = snapshot.getAsms();
+        out.writeInt(asms.size());
+        for (AbilityScoreModifier asm : asms) {
+            out.writeLong(asm.getId().value());
+            writeString(out, asm.getAbility().name());
+            out.writeInt(asm.getValue());
+        }
+
+        List<Language> languages = snapshot.getLanguages();
+        out.writeInt(languages.size());
+        for (Language language : languages) {
+            out.writeLong(language.getId().value());
+            writeString(out, language.getName());
+            writeString(out, language.getDescription());
+            writeString(out, language.getScript());
+            out.writeBoolean(language.isExotic());
+        }
+
+        for (ProficiencyType type : ProficiencyType.values()) {
+            List<Proficiency> proficiencies = snapshot.getProficiencies(type);
+            writeString(out, type.name());
+            out.writeInt(proficiencies.size());
+            for (Proficiency p : proficiencies) {
+                out.writeLong(p.getId().value());
+                switch (type) {
+                    case SKILL -> writeString(out, ((SkillProficiency) p).getSkill().name());
+                    case ARMOUR -> writeString(out, ((ArmourProficiency) p).getType().name());
+                    case TOOL -> {
+                        ToolProficiency tool = (ToolProficiency) p;
+                        writeString(out, tool.getName());
+                        writeString(out, tool.getDescription());
+                        writeString(out, tool.getType().name());
+                    }
+                }
+            }
+        }
+
+        List<Feat> feats = snapshot.getFeats();
+        out.writeInt(feats.size());
+        for (Feat feat : feats) {
+            out.writeLong(feat.getId().value());
+            writeString(out, feat.getName());
+            writeString(out, feat.getDescription());
+            writeIds(out, feat.getAbilityScoreModifiers());
+            writeIds(out, feat.getProficiencies());
+        }
+    }
+
+    /**
+     * Utility method to write a length-prefixed list of entity IDs.
+     */
+    private static void writeIds(DataOutputStream out, List<? extends Entity<?>> list) throws IOException {
+        out.writeInt(list.size());
+        for (Entity<?> e : list) { out.writeLong(e.getId().value()); }
+    }
+
+    /**
+     * Utility method to write a length-prefixed UTF-8 String (or null).
+     */
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) { out.writeInt(-1); return; }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /* ======================================================================
+     * ------------------------------ Decoding ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Read all catalog content following the header, relinking feat supplies
+     * to the instances read before them.
+     */
+    private static CatalogSnapshot readBody(ByteBuffer buf, Version version) {
+        int n = buf.getInt();
+        List<AbilityScoreModifier> asms = new ArrayList<>(n);
+        Map<Long, AbilityScoreModifier> asmsById = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            long id = buf.getLong();
+            AbilityScoreModifier asm = new AbilityScoreModifier(Ability.valueOf(readString(buf)), buf.getInt());
+            asm.setId(new EntityId<>(id));
+            asms.add(asm);
+            asmsById.put(id, asm);
+        }
+
+        n = buf.getInt();
+        List<Language> languages = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long id = buf.getLong();
+            Language language = new Language(readString(buf), readString(buf), readString(buf), buf.get() != 0);
+            language.setId(new EntityId<>(id));
+            languages.add(language);
+        }
+
+        Map<ProficiencyType, List<Proficiency>> proficiencies = new EnumMap<>(ProficiencyType.class);
+        Map<Long, Proficiency> proficienciesById = new HashMap<>();
+        for (int t = 0; t < ProficiencyType.values().length; t++) {
+            ProficiencyType type = ProficiencyType.valueOf(readString(buf));
+            n = buf.getInt();
+            List<Proficiency> list = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                long id = buf.getLong();
+                Proficiency p = switch (type) {
+                    case SKILL -> new SkillProficiency(Skill.valueOf(readString(buf)));
+                    case ARMOUR -> new ArmourProficiency(ArmourType.valueOf(readString(buf)));
+                    case TOOL -> new ToolProficiency(readString(buf), readString(buf), ToolType.valueOf(readString(buf)));
+                };
+                p.setId(new EntityId<>(id));
+                list.add(p);
+                proficienciesById.put(id, p);
+            }
+            proficiencies.put(type, list);
+        }
+
+        n = buf.getInt();
+        List<Feat> feats = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long id = buf.getLong();
+            Feat feat = new Feat.Builder(readString(buf), readString(buf))
+                .abilityScoreModifiers(readLinked(buf, asmsById))
+                .proficiencies(readLinked(buf, proficienciesById))
+                .build();
+            feat.setId(new EntityId<>(id));
+            feats.add(feat);
+        }
+
+        if (buf.hasRemaining()) throw new IllegalStateException("Unexpected trailing bytes");
+        return new CatalogSnapshot(feats, languages, asms, proficiencies, version);
+    }
+
+    /**
+     * Utility method to read a length-prefixed list of IDs, resolving each.
+     */
+    private static <T> List<T> readLinked(ByteBuffer buf, Map<Long, T> lookup) {
+        int n = buf.getInt();
+        List<T> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            T t = lookup.get(buf.getLong());
+            if (t == null) throw new IllegalStateException("Dangling supply reference");
+            list.add(t);
+        }
+        return list;
+    }
+
+    /**
+     * Utility method to read a length-prefixed UTF-8 String (or null).
+     */
+    private static String readString(ByteBuffer buf) {
+        int length = buf.getInt();
+        if (length < 0) return null;
+        if (length > buf.remaining()) throw new BufferUnderflowException();
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
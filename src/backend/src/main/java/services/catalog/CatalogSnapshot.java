@@ -0,0 +1,121 @@
+// java/services/catalog/CatalogSnapshot.java
+package services.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import datasource.mappers.CatalogVersionMapper.Version;
+import domain.core.Entity;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.Proficiency;
+import domain.types.ProficiencyType;
+
+/**
+ * An immutable, fully linked view of all rules content (SRD and homebrew) at a
+ * single point in time. Feats reference the exact {@link AbilityScoreModifier}
+ * and {@link Proficiency} instances held by this snapshot.
+ *
+ * <p> Never mutated once constructed - safe to share across threads without
+ * locking. Replaced wholesale by {@link RulesCatalog} on change. The {@link
+ * SearchIndex} derived from it is built on first use.
+ */
+public final class CatalogSnapshot {
+
+    // --- Attributes ---
+    // Rules content version this snapshot was read at (or after)
+    private final Version version;
+    // Lookups by ID (insertion ordered to match database read order)
+    private final Map<Long, Feat> feats;
+    private final Map<Long, Language> languages;
+    private final Map<Long, AbilityScoreModifier> asms;
+    private final Map<Long, Proficiency> proficiencies;
+    // Precomputed list views
+    private final List<Feat> featList;
+    private final List<Feat> featSummaries;
+    private final List<Language> languageList;
+    private final List<AbilityScoreModifier> asmList;
+    private final Map<ProficiencyType, List<Proficiency>> proficienciesByType;
+    // Derived on first use - racing builds are identical, so either may win
+    private volatile SearchIndex searchIndex;
+
+    // Constructor
+    public CatalogSnapshot(
+        List<Feat> feats,
+        List<Language> languages,
+        List<AbilityScoreModifier> asms,
+        Map<ProficiencyType, List<Proficiency>> proficienciesByType,
+        Version version
+    ) {
+        this.version = version;
+        this.feats = index(feats);
+        this.languages = index(languages);
+        this.asms = index(asms);
+
+        // Flatten proficiency subtypes into one lookup
+        Map<ProficiencyType, List<Proficiency>> byType = new EnumMap<>(ProficiencyType.class);
+        List<Proficiency> allProficiencies = new ArrayList<>();
+        for (ProficiencyType type : ProficiencyType.values()) {
+            List<Proficiency> list = List.copyOf(proficienciesByType.getOrDefault(type, List.of()));
+            byType.put(type, list);
+            allProficiencies.addAll(list);
+        }
+        this.proficienciesByType = Collections.unmodifiableMap(byType);
+        this.proficiencies = index(allProficiencies);
+
+        // List endpoints serve shallow feats without supplied modifications
+        List<Feat> summaries = new ArrayList<>(feats.size());
+        for (Feat full : feats) {
+            Feat shallow = new Feat.Builder(full.getName(), full.getDescription()).build();
+            shallow.setId(full.getId());
+            summaries.add(shallow);
+        }
+        this.featSummaries = List.copyOf(summaries);
+        this.featList = List.copyOf(feats);
+        this.languageList = List.copyOf(languages);
+        this.asmList = List.copyOf(asms);
+    }
+
+    /**
+     * Utility method to index a list of entities by their ID value, keeping
+     * the original list ordering.
+     */
+    private static <T extends Entity<?>> Map<Long, T> index(List<T> list) {
+        Map<Long, T> map = new LinkedHashMap<>();
+        for (T t : list) { map.put(t.getId().value(), t); }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /* ======================================================================
+     * ------------------------------ Getters  ------------------------------
+     * ====================================================================== */
+
+    public Version getVersion() { return this.version; }
+
+    // --- Lookups (null if absent) ---
+    public Feat getFeat(long id) { return this.feats.get(id); }
+    public Language getLanguage(long id) { return this.languages.get(id); }
+    public AbilityScoreModifier getAsm(long id) { return this.asms.get(id); }
+    public Proficiency getProficiency(long id) { return this.proficiencies.get(id); }
+
+    // --- Lists (unmodifiable) ---
+    public List<Feat> getFeats() { return this.featList; }
+    public List<Feat> getFeatSummaries() { return this.featSummaries; }
+    public List<Language> getLanguages() { return this.languageList; }
+    public List<AbilityScoreModifier> getAsms() { return this.asmList; }
+    public List<Proficiency> getProficiencies(ProficiencyType type) {
+        return this.proficienciesByType.get(type);
+    }
+
+    // --- Derived ---
+    public SearchIndex getSearchIndex() {
+        SearchIndex index = this.searchIndex;
+        if (index == null) this.searchIndex = index = new SearchIndex(this);
+        return index;
+    }
+}
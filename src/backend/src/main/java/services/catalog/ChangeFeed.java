@@ -0,0 +1,189 @@
+// java/services/catalog/ChangeFeed.java
+package services.catalog;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import domain.core.Entity;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.Proficiency;
+
+/**
+ * Utility class publishing a feed of committed catalog changes - one compact
+ * {@link Change} per entity created, updated or deleted - so clients can fetch
+ * only what changed rather than polling whole lists.
+ *
+ * <p> Changes are published by {@link RulesCatalog} once the snapshot they
+ * belong to is installed, so a client reacting to a change always reads it.
+ * The most recent {@link #CAPACITY} changes are held in a ring buffer, so a
+ * reconnecting client can resume from the last event it saw. Event IDs carry
+ * this process' epoch, so IDs issued before a restart are never mistaken for
+ * current ones.
+ *
+ * <ul>
+ *   <li> Receive changes via {@link #subscribe(String, int, Subscriber)}
+ *   <li> Stop receiving them via {@link #unsubscribe(Subscriber)}
+ * </ul>
+ */
+public class ChangeFeed {
+
+    /**
+     * A committed change to a catalog entity.
+     *
+     * @param type resource type, e.g. {@code "feat"}
+     * @param id ID of the entity changed
+     * @param operation one of {@code "create"}, {@code "update"}, {@code "delete"}
+     */
+    public record Change(String type, long id, String operation) {}
+
+    /**
+     * Receiver of changes. Called while the feed is locked, so must not block.
+     */
+    public interface Subscriber {
+
+        /**
+         * A change was committed.
+         *
+         * @param eventId ID of this event, to resume from
+         * @param change the change
+         */
+        void onChange(String eventId, Change change);
+
+        /**
+         * Changes before this point are not available - the subscriber must
+         * re-read everything it holds, then apply the changes that follow.
+         *
+         * @param eventId ID of the latest event, to resume from
+         */
+        void onReset(String eventId);
+    }
+
+    // --- Constants ---
+    public static final int CAPACITY = 1024;
+    private static final String EPOCH = Long.toHexString(System.currentTimeMillis());
+
+    // --- Attributes ---
+    private static final Change[] ring = new Change[CAPACITY];
+    // Sequence number of the next change - guarded by the ring
+    private static long next = 1;
+    private static final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Private Constructor (disallow instantiation)
+    private ChangeFeed() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Begin receiving changes. Changes since {@code lastEventId} are replayed
+     * first if still held and no more than {@code maxReplay}; otherwise
+     * {@link Subscriber#onReset(String)} is called.
+     *
+     * @param lastEventId ID of the last event the subscriber saw, or null if
+     *        none
+     * @param maxReplay most changes the subscriber can accept at once, e.g.
+     *        the capacity of its send queue
+     * @param subscriber receiver of changes
+     */
+    public static void subscribe(String lastEventId, int maxReplay, Subscriber subscriber) {
+        synchronized (ring) {
+            long last = parseSequence(lastEventId);
+            long oldest = Math.max(1, next - CAPACITY);
+
+            // A reset is cheaper than a replay the subscriber would drop
+            if (last < 0 || last >= next || last + 1 < oldest || next - 1 - last > maxReplay) {
+                subscriber.onReset(eventId(next - 1));
+            } else {
+                for (long seq = last + 1; seq < next; seq++) {
+                    subscriber.onChange(eventId(seq), ring[index(seq)]);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+    }
+
+    /**
+     * Stop receiving changes.
+     *
+     * @param subscriber receiver of changes
+     */
+    public static void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /* ======================================================================
+     * -------------------------- Package  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Publish the catalog entities of a commit. Other objects are ignored.
+     *
+     * @param inserted objects inserted
+     * @param updated objects updated
+     * @param deleted objects deleted
+     */
+    static void publish(List<Object> inserted, List<Object> updated, List<Object> deleted) {
+        synchronized (ring) {
+            publish(inserted, "create");
+            publish(updated, "update");
+            publish(deleted, "delete");
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Append each catalog entity to the ring and notify subscribers.
+     */
+    private static void publish(List<Object> objects, String operation) {
+        for (Object obj : objects) {
+            String type = typeOf(obj);
+            if (type == null || !((Entity<?>) obj).hasId()) continue;
+
+            Change change = new Change(type, ((Entity<?>) obj).getId().value(), operation);
+            long seq = next++;
+            ring[index(seq)] = change;
+            for (Subscriber subscriber : subscribers) { subscriber.onChange(eventId(seq), change); }
+        }
+    }
+
+    /**
+     * Utility method to name the resource type of a catalog entity.
+     *
+     * @return type name, or null if not catalog content
+     */
+    private static String typeOf(Object obj) {
+        if (obj instanceof Feat) return "feat";
+        if (obj instanceof Language) return "language";
+        if (obj instanceof AbilityScoreModifier) return "asm";
+        if (obj instanceof Proficiency) return "proficiency";
+        return null;
+    }
+
+    /**
+     * Utility method to format an event ID - {@code "<epoch>-<sequence>"}.
+     */
+    private static String eventId(long seq) { return EPOCH + "-" + seq; }
+
+    /**
+     * Utility method to parse the sequence number of an event ID.
+     *
+     * @return sequence number, or -1 if absent, malformed or from another epoch
+     */
+    private static long parseSequence(String eventId) {
+        String prefix = EPOCH + "-";
+        if (eventId == null || !eventId.startsWith(prefix)) return -1;
+        try { return Long.parseLong(eventId.substring(prefix.length()).trim()); }
+        catch (NumberFormatException e) { return -1; }
+    }
+
+    /**
+     * Utility method to locate a sequence number in the ring.
+     */
+    private static int index(long seq) { return (int) (seq % CAPACITY); }
+}
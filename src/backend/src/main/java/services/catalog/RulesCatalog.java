@@ -0,0 +1,433 @@
+// java/services/catalog/RulesCatalog.java
+package services.catalog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import datasource.Database;
+import config.Env;
+import datasource.UnitOfWork;
+import datasource.mappers.CatalogVersionMapper;
+import datasource.mappers.CatalogVersionMapper.Version;
+import datasource.mappers.FeatMapper;
+import datasource.mappers.Mapper;
+import datasource.mappers.MapperRegistry;
+import datasource.mappers.proficiency.ProficiencyMapper;
+import datasource.utils.SQLExceptionTranslator;
+import domain.core.Entity;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.Proficiency;
+import domain.types.ProficiencyType;
+
+/**
+ * Utility class holding the current {@link CatalogSnapshot} of all rules
+ * content. Reads are lock-free and never touch the database once loaded.
+ *
+ * <p> Writes are copy-on-write: every successful {@link UnitOfWork} commit
+ * touching catalog content builds a fresh snapshot from the database, then
+ * atomically swaps it in. Readers holding the previous snapshot are unaffected.
+ * Each such commit also bumps the {@code catalog_version}, in the same
+ * transaction.
+ *
+ * <p> Once a rebuilt snapshot is installed, the committed changes are published
+ * to the {@link ChangeFeed}.
+ *
+ * <p> If {@code CATALOG_SNAPSHOT_FILE} is set, every snapshot built is also
+ * persisted there via {@link CatalogFile}. On restart the file is mapped back
+ * in if its version still matches the database, falling back to a full load
+ * otherwise.
+ *
+ * <ul>
+ *   <li> Register for catalog commits (at deploy time) via {@link #init()}
+ *   <li> Read the current snapshot via {@link #get()}
+ *   <li> Eagerly load (e.g. at deploy time) via {@link #load()}, or in
+ *        parallel via {@link #load(Executor, Runnable)}
+ *   <li> Force a rebuild via {@link #reload()}
+ * </ul>
+ */
+public class RulesCatalog {
+
+    // --- Constants ---
+    // Number of reads performed per build (progress reporting)
+    public static final int LOAD_STEPS = 3 + ProficiencyType.values().length;
+    // Runs reads in place, on the building connection
+    private static final Executor DIRECT = Runnable::run;
+    private static final CatalogVersionMapper VERSIONS = new CatalogVersionMapper();
+    private static final Path SNAPSHOT_FILE = readSnapshotFile();
+
+    // --- Attributes ---
+    private static final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    // Serialises snapshot builds - never held by readers
+    private static final Object writeLock = new Object();
+    // Set once commit hooks are registered - guarded by writeLock
+    private static boolean initialised;
+
+    // Private Constructor (disallow instantiation)
+    private RulesCatalog() {}
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Registers the catalog with {@link UnitOfWork}, so every commit touching
+     * catalog content bumps the {@code catalog_version}, rebuilds the snapshot
+     * and is announced on the {@link ChangeFeed}. Must be called at deploy
+     * time, before any catalog content is committed. Has no effect if already
+     * called.
+     */
+    public static void init() {
+        synchronized (writeLock) {
+            if (initialised) return;
+            initialised = true;
+        }
+
+        // Version catalog content atomically with every change to it
+        UnitOfWork.addPreCommitHook((inserted, updated, deleted, conn) ->
+            !(touchesCatalog(inserted) || touchesCatalog(updated) || touchesCatalog(deleted))
+                || VERSIONS.bump(conn)
+        );
+        // Rebuild whenever committed changes touch catalog content, then announce them
+        UnitOfWork.addCommitListener((inserted, updated, deleted) -> {
+            if (touchesCatalog(inserted) || touchesCatalog(updated) || touchesCatalog(deleted)) {
+                // On failure the stale snapshot is dropped, so readers still see the change
+                try { reload(); }
+                catch (RuntimeException e) {
+                    System.err.println("Rules catalog reload failed, rebuilding on next read: " + e.getMessage());
+                }
+                ChangeFeed.publish(inserted, updated, deleted);
+            }
+        });
+    }
+
+    /**
+     * Returns the current catalog snapshot, loading it first if this is the
+     * first access.
+     *
+     * @return current, immutable {@link CatalogSnapshot}
+     */
+    public static CatalogSnapshot get() {
+        CatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : load();
+    }
+
+    /**
+     * Loads the catalog from the snapshot file, or else the database, if it
+     * has not yet been loaded.
+     *
+     * @return current, immutable {@link CatalogSnapshot}
+     */
+    public static CatalogSnapshot load() {
+        return load(DIRECT, () -> {});
+    }
+
+    /**
+     * Loads the catalog from the snapshot file, or else the database, if it
+     * has not yet been loaded. Database loads run each independent read as a
+     * task on {@code executor}, each on its own pooled connection - all
+     * sharing one transaction snapshot, so reads proceed in parallel yet see
+     * the same point in time.
+     *
+     * @param executor executor on which database reads are run
+     * @param onStep callback run after each of {@link #LOAD_STEPS} reads
+     * @return current, immutable {@link CatalogSnapshot}
+     */
+    public static CatalogSnapshot load(Executor executor, Runnable onStep) {
+        synchronized (writeLock) {
+            CatalogSnapshot snapshot = current.get();
+            if (snapshot != null) return snapshot;
+
+            snapshot = readFile();
+            if (snapshot != null) {
+                for (int i = 0; i < LOAD_STEPS; i++) { onStep.run(); }
+                return swap(snapshot);
+            }
+            return swap(persist(build(executor, onStep)));
+        }
+    }
+
+    /**
+     * Builds a fresh catalog snapshot from the database and atomically
+     * replaces the current one. On failure the current snapshot is dropped,
+     * as it is presumed stale - the next {@link #get()} rebuilds it.
+     *
+     * @return newly installed {@link CatalogSnapshot}
+     */
+    public static CatalogSnapshot reload() {
+        synchronized (writeLock) {
+            try {
+                return swap(persist(build(DIRECT, () -> {})));
+            } catch (RuntimeException e) {
+                current.set(null);
+                throw e;
+            }
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Installs a snapshot as the current catalog.
+     *
+     * @param snapshot new snapshot
+     * @return the snapshot installed
+     */
+    private static CatalogSnapshot swap(CatalogSnapshot snapshot) {
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Reads all catalog content and links it into a new snapshot. Every read
+     * runs in a read-only REPEATABLE READ transaction sharing one snapshot, so
+     * the catalog is consistent with a single point in time - a feat never
+     * references a proficiency committed (or deleted) after the proficiencies
+     * were read.
+     *
+     * <p> Unless {@code executor} is {@link #DIRECT}, the building transaction
+     * exports its snapshot, and independent reads are submitted to {@code
+     * executor}, each on its own pooled connection importing that snapshot.
+     * Feats are read last, linked to the modifications they supply.
+     *
+     * @param executor executor on which database reads are run
+     * @param onStep callback run after each read completes
+     * @return newly built {@link CatalogSnapshot}
+     */
+    private static CatalogSnapshot build(Executor executor, Runnable onStep) {
+        try (Connection conn = Database.getConnection()) {
+            return inTransaction(conn, null, () -> {
+                Version version = VERSIONS.find(conn);
+                String snapshotId = executor == DIRECT ? null : exportSnapshot(conn);
+
+                CompletableFuture<List<AbilityScoreModifier>> asms = read(executor, conn, snapshotId, onStep,
+                    c -> mapperFor(AbilityScoreModifier.class).findAll(c));
+                CompletableFuture<List<Language>> languages = read(executor, conn, snapshotId, onStep,
+                    c -> mapperFor(Language.class).findAll(c));
+
+                ProficiencyMapper profMapper = (ProficiencyMapper) mapperFor(Proficiency.class);
+                Map<ProficiencyType, CompletableFuture<List<Proficiency>>> proficiencyReads =
+                    new EnumMap<>(ProficiencyType.class);
+                for (ProficiencyType type : ProficiencyType.values()) {
+                    proficiencyReads.put(type, read(executor, conn, snapshotId, onStep,
+                        c -> profMapper.findAllByType(type, c)));
+                }
+
+                try {
+                    Map<ProficiencyType, List<Proficiency>> proficiencies = new EnumMap<>(ProficiencyType.class);
+                    proficiencyReads.forEach((type, read) -> proficiencies.put(type, read.join()));
+
+                    // Link feat supplies to the instances loaded above
+                    FeatMapper featMapper = (FeatMapper) mapperFor(Feat.class);
+                    List<Feat> feats = featMapper.findAllLinked(
+                        byId(asms.join()),
+                        byId(proficiencies.values().stream().flatMap(List::stream).toList()),
+                        conn
+                    );
+                    onStep.run();
+
+                    return new CatalogSnapshot(feats, languages.join(), asms.join(), proficiencies, version);
+
+                } catch (CompletionException e) {
+                    // Surface the original failure of whichever read failed
+                    if (e.getCause() instanceof RuntimeException cause) throw cause;
+                    throw e;
+                }
+            });
+
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
+    /**
+     * A database read run against a connection in the catalog transaction.
+     */
+    @FunctionalInterface
+    private interface Read<R> {
+        R apply(Connection conn);
+    }
+
+    /**
+     * Utility method to run a database read in the catalog transaction -
+     * directly on the building connection, or else on its own pooled
+     * connection importing the exported snapshot.
+     *
+     * @param <R> type of the result read
+     * @param executor executor on which the read is run
+     * @param conn building connection, used by {@link #DIRECT} reads
+     * @param snapshotId exported snapshot imported by pooled reads
+     * @param onStep callback run after the read completes
+     * @param read the read performed
+     * @return future result of the read
+     */
+    private static <R> CompletableFuture<R> read(
+        Executor executor, Connection conn, String snapshotId, Runnable onStep, Read<R> read
+    ) {
+        if (executor == DIRECT) {
+            R result = read.apply(conn);
+            onStep.run();
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try (Connection worker = Database.getConnection()) {
+                R result = inTransaction(worker, snapshotId, () -> read.apply(worker));
+                onStep.run();
+                return result;
+            } catch (SQLException e) {
+                // Catch unexpected SQLException thrown by Connection on .close()
+                throw SQLExceptionTranslator.translate(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Utility method to run work in a read-only REPEATABLE READ transaction,
+     * restoring the pooled connection's state afterwards.
+     *
+     * @param conn connection the transaction runs on
+     * @param snapshotId snapshot exported by another transaction to import,
+     *        or null to take a new one
+     * @param work work run in the transaction
+     * @return result of {@code work}
+     * @throws SQLException on failure to configure or end the transaction
+     */
+    private static <R> R inTransaction(Connection conn, String snapshotId, Supplier<R> work) throws SQLException {
+        boolean autoCommitDefault = conn.getAutoCommit();
+        int isolationDefault = conn.getTransactionIsolation();
+        try {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+
+            if (snapshotId != null) {
+                // Must precede any query in the transaction; not parameterisable
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("SET TRANSACTION SNAPSHOT '" + snapshotId.replace("'", "''") + "'");
+                }
+            }
+
+            R result = work.get();
+            conn.commit();
+            return result;
+
+        } catch (RuntimeException | SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            // Safety reset of pooled connection state
+            conn.setReadOnly(false);
+            conn.setTransactionIsolation(isolationDefault);
+            conn.setAutoCommit(autoCommitDefault);
+        }
+    }
+
+    /**
+     * Utility method to export the snapshot of the open transaction, for
+     * other connections to import while it stays open.
+     */
+    private static String exportSnapshot(Connection conn) {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT pg_export_snapshot()")) {
+            rs.next();
+            return rs.getString(1);
+        } catch (SQLException e) {
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
+    /**
+     * Maps the snapshot file back in, if configured and still current.
+     *
+     * @return snapshot read, or null if unavailable or stale
+     */
+    private static CatalogSnapshot readFile() {
+        if (SNAPSHOT_FILE == null) return null;
+        CatalogSnapshot snapshot = CatalogFile.read(SNAPSHOT_FILE, currentVersion());
+        if (snapshot != null) System.out.println("Rules catalog mapped from " + SNAPSHOT_FILE);
+        return snapshot;
+    }
+
+    /**
+     * Persists a snapshot to the snapshot file, if configured. Failure is
+     * reported but not fatal - the next start simply loads from the database.
+     *
+     * @param snapshot snapshot persisted
+     * @return the same snapshot
+     */
+    private static CatalogSnapshot persist(CatalogSnapshot snapshot) {
+        if (SNAPSHOT_FILE == null) return snapshot;
+        try { CatalogFile.write(snapshot, SNAPSHOT_FILE); }
+        catch (IOException e) {
+            System.err.println("Failed to write catalog snapshot file: " + e.getMessage());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Utility method to read the current catalog version.
+     */
+    private static Version currentVersion() {
+        try (Connection conn = Database.getConnection()) {
+            return VERSIONS.find(conn);
+        } catch (SQLException e) {
+            // Catch unexpected SQLException thrown by Connection on .close()
+            throw SQLExceptionTranslator.translate(e);
+        }
+    }
+
+    /**
+     * Read configured snapshot file path, if any.
+     */
+    private static Path readSnapshotFile() {
+        String value = Env.get("CATALOG_SNAPSHOT_FILE");
+        return value == null || value.isBlank() ? null : Path.of(value.trim());
+    }
+
+    /**
+     * Utility method to retrieve a registered mapper, failing loudly if absent.
+     */
+    private static <T> Mapper<T> mapperFor(Class<T> c) {
+        Mapper<T> mapper = MapperRegistry.getMapper(c);
+        if (mapper == null) throw new IllegalStateException("No Mapper registered for " + c.getSimpleName());
+        return mapper;
+    }
+
+    /**
+     * Utility method to index entities by ID value.
+     */
+    private static <T extends Entity<?>> Map<Long, T> byId(List<T> list) {
+        return list.stream().collect(Collectors.toMap(t -> t.getId().value(), Function.identity()));
+    }
+
+    /**
+     * Utility method to check whether any committed object is catalog content.
+     */
+    private static boolean touchesCatalog(List<Object> objects) {
+        for (Object obj : objects) {
+            if (obj instanceof Feat || obj instanceof Language
+                || obj instanceof AbilityScoreModifier || obj instanceof Proficiency) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,297 @@
+// java/services/catalog/SearchIndex.java
+package services.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.ArmourProficiency;
+import domain.modifiers.proficiency.Proficiency;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
+import domain.types.ArmourType;
+import domain.types.ProficiencyType;
+
+/**
+ * An immutable inverted index over the names and descriptions of the feats,
+ * languages and proficiencies in a {@link CatalogSnapshot}, for as-you-type
+ * search.
+ *
+ * <p> Every query word must match each result, in order of preference:
+ * <ol>
+ *   <li> Exactly - a whole word of the entity's text
+ *   <li> By prefix - e.g. {@code "dwarv"} matches {@code "dwarvish"}
+ *   <li> By trigram similarity - tolerating typos, e.g. {@code "stelth"}
+ * </ol>
+ *
+ * Matches in names outweigh matches in descriptions. Results are ranked by
+ * summed score, then name.
+ */
+public final class SearchIndex {
+
+    /**
+     * A search result.
+     *
+     * @param type resource type, e.g. {@code "feat"}
+     * @param id ID of the entity matched
+     * @param name display name of the entity matched
+     * @param score relevance - higher is better
+     */
+    public record Hit(String type, long id, String name, double score) {}
+
+    // --- Constants ---
+    public static final Set<String> TYPES = Set.of("feat", "language", "proficiency");
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double EXACT = 1.0;
+    private static final double PREFIX = 0.7;
+    private static final double FUZZY = 0.5;
+    // Least trigram (Jaccard) similarity counted as a match
+    private static final double MIN_SIMILARITY = 0.4;
+    private static final int MIN_FUZZY_LENGTH = 3;
+    // Most query words considered
+    private static final int MAX_QUERY_TERMS = 8;
+
+    /**
+     * An indexed entity.
+     */
+    private record Doc(String type, long id, String name) {}
+
+    // --- Attributes ---
+    private final Doc[] docs;
+    // Distinct words, sorted, so prefixes are contiguous ranges
+    private final String[] terms;
+    // Per term: documents containing it, and the weight of the best field
+    private final int[][] postingDocs;
+    private final int[][] postingWeights;
+    // Per trigram: terms containing it; per term: its trigram count
+    private final Map<String, int[]> trigramTerms;
+    private final int[] termTrigrams;
+
+    /**
+     * Build the index over a snapshot's content.
+     *
+     * @param snapshot snapshot indexed
+     */
+    SearchIndex(CatalogSnapshot snapshot) {
+        List<Doc> docList = new ArrayList<>();
+        // Term -> (document -> best field weight)
+        Map<String, Map<Integer, Integer>> postings = new TreeMap<>();
+
+        for (Feat feat : snapshot.getFeats()) {
+            add(docList, postings, "feat", feat.getId().value(), feat.getName(), feat.getDescription());
+        }
+        for (Language language : snapshot.getLanguages()) {
+            add(docList, postings, "language", language.getId().value(), language.getName(), language.getDescription());
+        }
+        for (ProficiencyType type : ProficiencyType.values()) {
+            for (Proficiency p : snapshot.getProficiencies(type)) {
+                String description = p instanceof ToolProficiency tool ? tool.getDescription() : null;
+                add(docList, postings, "proficiency", p.getId().value(), nameOf(p), description);
+            }
+        }
+        this.docs = docList.toArray(Doc[]::new);
+
+        this.terms = postings.keySet().toArray(String[]::new);
+        this.postingDocs = new int[terms.length][];
+        this.postingWeights = new int[terms.length][];
+        this.termTrigrams = new int[terms.length];
+        Map<String, List<Integer>> grams = new HashMap<>();
+
+        for (int t = 0; t < terms.length; t++) {
+            Map<Integer, Integer> posting = postings.get(terms[t]);
+            postingDocs[t] = new int[posting.size()];
+            postingWeights[t] = new int[posting.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> e : posting.entrySet()) {
+                postingDocs[t][i] = e.getKey();
+                postingWeights[t][i++] = e.getValue();
+            }
+
+            Set<String> termGrams = trigrams(terms[t]);
+            termTrigrams[t] = termGrams.size();
+            for (String gram : termGrams) { grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(t); }
+        }
+
+        Map<String, int[]> trigramIndex = new HashMap<>();
+        grams.forEach((gram, list) -> trigramIndex.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.trigramTerms = Map.copyOf(trigramIndex);
+    }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Search the index.
+     *
+     * @param query free text, e.g. {@code "dwarv"}
+     * @param types resource types included, or empty for all
+     * @param limit most results returned
+     * @return best matches, best first
+     */
+    public List<Hit> search(String query, Set<String> types, int limit) {
+        List<String> words = new ArrayList<>(tokenize(query));
+        if (words.isEmpty() || limit <= 0) return List.of();
+        if (words.size() > MAX_QUERY_TERMS) words = words.subList(0, MAX_QUERY_TERMS);
+
+        double[] total = new double[docs.length];
+        int[] matched = new int[docs.length];
+        double[] best = new double[docs.length];
+        int[] shared = new int[terms.length];
+
+        for (String word : words) {
+            Arrays.fill(best, 0);
+            int from = matchPrefix(word, best);
+            if (word.length() >= MIN_FUZZY_LENGTH) matchFuzzy(word, from, best, shared);
+
+            for (int d = 0; d < docs.length; d++) {
+                if (best[d] > 0) {
+                    total[d] += best[d];
+                    matched[d]++;
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int d = 0; d < docs.length; d++) {
+            Doc doc = docs[d];
+            if (matched[d] < words.size() || (!types.isEmpty() && !types.contains(doc.type()))) continue;
+            hits.add(new Hit(doc.type(), doc.id(), doc.name(), Math.round(total[d] * 1000) / 1000.0));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Hit::name, String.CASE_INSENSITIVE_ORDER));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : List.copyOf(hits);
+    }
+
+    /* ======================================================================
+     * ------------------------------ Matching ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Score documents containing {@code word} exactly or as a prefix.
+     *
+     * @return index of the first term sorting at or after {@code word}
+     */
+    private int matchPrefix(String word, double[] best) {
+        int from = Arrays.binarySearch(terms, word);
+        if (from < 0) from = -from - 1;
+
+        for (int t = from; t < terms.length && terms[t].startsWith(word); t++) {
+            score(t, terms[t].length() == word.length() ? EXACT : PREFIX, best);
+        }
+        return from;
+    }
+
+    /**
+     * Score documents containing a word similar to {@code word}, skipping
+     * terms already matched by prefix.
+     */
+    private void matchFuzzy(String word, int prefixFrom, double[] best, int[] shared) {
+        Set<String> grams = trigrams(word);
+        List<Integer> touched = new ArrayList<>();
+        for (String gram : grams) {
+            for (int t : trigramTerms.getOrDefault(gram, new int[0])) {
+                if (shared[t]++ == 0) touched.add(t);
+            }
+        }
+
+        for (int t : touched) {
+            boolean prefixMatched = t >= prefixFrom && terms[t].startsWith(word);
+            double similarity = (double) shared[t] / (grams.size() + termTrigrams[t] - shared[t]);
+            if (!prefixMatched && similarity >= MIN_SIMILARITY) score(t, FUZZY * similarity, best);
+            shared[t] = 0;
+        }
+    }
+
+    /**
+     * Raise each document's score for the current word to that of term
+     * {@code t}, if higher.
+     */
+    private void score(int t, double quality, double[] best) {
+        int[] postingDoc = postingDocs[t];
+        for (int i = 0; i < postingDoc.length; i++) {
+            double s = quality * postingWeights[t][i];
+            if (s > best[postingDoc[i]]) best[postingDoc[i]] = s;
+        }
+    }
+
+    /* ======================================================================
+     * ------------------------------ Building ------------------------------
+     * ====================================================================== */
+
+    /**
+     * Add a document, posting each word of its name and description.
+     */
+    private static void add(
+        List<Doc> docs, Map<String, Map<Integer, Integer>> postings,
+        String type, long id, String name, String description
+    ) {
+        int doc = docs.size();
+        docs.add(new Doc(type, id, name));
+        for (String word : tokenize(description)) {
+            postings.computeIfAbsent(word, w -> new TreeMap<>()).merge(doc, DESCRIPTION_WEIGHT, Math::max);
+        }
+        for (String word : tokenize(name)) {
+            postings.computeIfAbsent(word, w -> new TreeMap<>()).merge(doc, NAME_WEIGHT, Math::max);
+        }
+    }
+
+    /**
+     * Utility method to derive a display name for any proficiency.
+     */
+    private static String nameOf(Proficiency p) {
+        if (p instanceof ToolProficiency tool) return tool.getName();
+        if (p instanceof SkillProficiency skill) return pretty(skill.getSkill().name());
+        if (p instanceof ArmourProficiency armour) {
+            return armour.getType() == ArmourType.SHIELD ? "Shield" : pretty(armour.getType().name()) + " armour";
+        }
+        return p.toString();
+    }
+
+    /**
+     * Utility method to turn an enum name into text, e.g. {@code "Sleight of hand"}.
+     */
+    private static String pretty(String name) {
+        String text = name.toLowerCase().replace('_', ' ');
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    /**
+     * Utility method to split text into distinct lower case words.
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) return words;
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) start = i;
+            if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Utility method to list the distinct trigrams of a word, padded so its
+     * start and end count for more - {@code "  w"}, {@code " wo"}, ...
+     */
+    private static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) { grams.add(padded.substring(i, i + 3)); }
+        return grams;
+    }
+}
@@ -18,3 +18,6 @@ INSERT INTO language (name, description, script, exotic) VALUES
     ('Primordial', 'Typically spoken by Elementals', 'Dwarvish', true),
     ('Sylvan', 'Typically spoken by Fey creatures', 'Elvish', true),
     ('Undercommon', 'Typically spoken by Underworld traders', 'Elvish', true);
+
+-- Invalidate any persisted catalog snapshot
+UPDATE catalog_version SET version = version + 1;
@@ -17,6 +17,7 @@ DROP TABLE IF EXISTS supply_language CASCADE;
 DROP TABLE IF EXISTS supply_proficiency CASCADE;
 DROP TABLE IF EXISTS supply_feat CASCADE;
 DROP TABLE IF EXISTS supply_asm CASCADE;
+DROP TABLE IF EXISTS catalog_version CASCADE;
 
 /* ================================= Tables ================================= */
 
@@ -139,3 +140,15 @@ CREATE TABLE IF NOT EXISTS supply_asm (
 	supply_id INT NOT NULL REFERENCES asm(id),
 	PRIMARY KEY(source_id, supply_id)
 );
+
+/* ============================= Data Versioning ============================= */
+
+-- Single row, bumped by every transaction changing rules content. The epoch
+-- distinguishes a recreated schema whose version counter has restarted.
+CREATE TABLE IF NOT EXISTS catalog_version (
+	id INT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+	epoch BIGINT NOT NULL DEFAULT (extract(epoch FROM clock_timestamp()) * 1000)::BIGINT,
+	version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO catalog_version (id) VALUES (1) ON CONFLICT DO NOTHING;
@@ -0,0 +1,64 @@
+// java/api/StubRequest.java
+package api;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * In-memory {@link HttpServletRequest} for tests - serves the method, path,
+ * headers and parameters given. Methods not modelled return their type's
+ * default value.
+ */
+public class StubRequest implements InvocationHandler {
+
+    // --- Attributes ---
+    private final String method;
+    private final String uri;
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, String> parameters = new HashMap<>();
+    private final HttpServletRequest proxy = (HttpServletRequest) Proxy.newProxyInstance(
+        HttpServletRequest.class.getClassLoader(), new Class<?>[] { HttpServletRequest.class }, this
+    );
+
+    // Constructor
+    public StubRequest(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    public StubRequest header(String name, String value) { headers.put(name, value); return this; }
+    public StubRequest parameter(String name, String value) { parameters.put(name, value); return this; }
+    public HttpServletRequest proxy() { return proxy; }
+
+    /* ======================================================================
+     * ------------------------------- Proxy  -------------------------------
+     * ====================================================================== */
+
+    @Override
+    public Object invoke(Object self, Method m, Object[] args) {
+        switch (m.getName()) {
+            case "getMethod": return method;
+            case "getRequestURI":
+            case "getPathInfo": return uri;
+            case "getHeader": return headers.get((String) args[0]);
+            case "getParameter": return parameters.get((String) args[0]);
+            case "getRemoteAddr": return "127.0.0.1";
+            case "getContentLengthLong": return -1L;
+            case "getContentLength": return -1;
+            case "hashCode": return System.identityHashCode(self);
+            case "equals": return self == args[0];
+            case "toString": return "StubRequest " + method + " " + uri;
+            default: return StubResponse.defaultValue(m.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+// java/api/StubResponse.java
+package api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * In-memory {@link HttpServletResponse} for tests - records status, headers
+ * and body. Methods not modelled return their type's default value.
+ */
+public class StubResponse implements InvocationHandler {
+
+    // --- Attributes ---
+    private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private int status = HttpServletResponse.SC_OK;
+    private String contentType;
+    private String characterEncoding = "UTF-8";
+    private long contentLength = -1;
+    private boolean committed;
+    private ServletOutputStream stream;
+    private PrintWriter writer;
+    private final HttpServletResponse proxy = (HttpServletResponse) Proxy.newProxyInstance(
+        HttpServletResponse.class.getClassLoader(), new Class<?>[] { HttpServletResponse.class }, this
+    );
+
+    /* ======================================================================
+     * -------------------------- Exposed  Methods --------------------------
+     * ====================================================================== */
+
+    public HttpServletResponse proxy() { return proxy; }
+    public int getStatus() { return status; }
+    public String getHeader(String name) { return headers.get(name); }
+    public String getContentType() { return contentType; }
+    public long getContentLength() { return contentLength; }
+
+    /**
+     * @return body bytes written (and flushed) so far
+     */
+    public byte[] getBody() {
+        if (writer != null) writer.flush();
+        return body.toByteArray();
+    }
+
+    /**
+     * Forget the headers and body written so far, e.g. between benchmark
+     * iterations. The stream and writer are kept, as a container would.
+     */
+    public void clear() {
+        if (writer != null) writer.flush();
+        headers.clear();
+        body.reset();
+        committed = false;
+    }
+
+    /* ======================================================================
+     * ------------------------------- Proxy  -------------------------------
+     * ====================================================================== */
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "setStatus": status = (int) args[0]; return null;
+            case "getStatus": return status;
+            case "setHeader": headers.put((String) args[0], (String) args[1]); return null;
+            case "addHeader": headers.merge((String) args[0], (String) args[1], (a, b) -> a + ", " + b); return null;
+            case "getHeader": return headers.get((String) args[0]);
+            case "containsHeader": return headers.containsKey((String) args[0]);
+            case "setContentType": contentType = (String) args[0]; return null;
+            case "getContentType": return contentType;
+            case "setCharacterEncoding": characterEncoding = (String) args[0]; return null;
+            case "getCharacterEncoding": return characterEncoding;
+            case "setContentLength": contentLength = (int) args[0]; return null;
+            case "setContentLengthLong": contentLength = (long) args[0]; return null;
+            case "getOutputStream": return outputStream();
+            case "getWriter":
+                if (writer == null) writer = new PrintWriter(new OutputStreamWriter(outputStream(), StandardCharsets.UTF_8));
+                return writer;
+            case "flushBuffer": committed = true; return null;
+            case "isCommitted": return committed;
+            case "reset": headers.clear(); // fall through
+            case "resetBuffer": body.reset(); writer = null; return null;
+            case "hashCode": return System.identityHashCode(self);
+            case "equals": return self == args[0];
+            case "toString": return "StubResponse";
+            default: return defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Utility method to lazily create the body stream.
+     */
+    private ServletOutputStream outputStream() {
+        if (stream == null) {
+            stream = new ServletOutputStream() {
+                @Override public void write(int b) { body.write(b); }
+                @Override public void write(byte[] b, int off, int len) { body.write(b, off, len); }
+                @Override public boolean isReady() { return true; }
+                @Override public void setWriteListener(WriteListener listener) {}
+            };
+        }
+        return stream;
+    }
+
+    /**
+     * Utility method to return the default value of a type.
+     */
+    static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+// java/api/async/BufferedResponseTest.java
+package api.async;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import api.StubResponse;
+
+class BufferedResponseTest {
+
+    @Test
+    void leavesRealResponseUntouchedUntilApplied() throws Exception {
+        StubResponse real = new StubResponse();
+        BufferedResponse buffered = new BufferedResponse(real.proxy());
+
+        buffered.setStatus(HttpServletResponse.SC_CREATED);
+        buffered.setHeader("Location", "/api/feats/7");
+        buffered.setContentType("application/json; charset=UTF-8");
+        buffered.getWriter().write("{\"id\":7}");
+
+        // As a timeout would find it, while the handler is still running
+        assertEquals(HttpServletResponse.SC_OK, real.getStatus());
+        assertNull(real.getHeader("Location"));
+        assertNull(real.getContentType());
+        assertEquals(0, real.getBody().length);
+        assertEquals(HttpServletResponse.SC_CREATED, buffered.getStatus());
+        assertTrue(buffered.containsHeader("location"));
+
+        buffered.applyTo(real.proxy());
+        assertEquals(HttpServletResponse.SC_CREATED, real.getStatus());
+        assertEquals("/api/feats/7", real.getHeader("Location"));
+        assertEquals("application/json; charset=UTF-8", real.getContentType());
+        assertArrayEquals("{\"id\":7}".getBytes(StandardCharsets.UTF_8), buffered.toByteArray());
+    }
+
+    @Test
+    void resetDiscardsBufferedHeaders() throws Exception {
+        StubResponse real = new StubResponse();
+        BufferedResponse buffered = new BufferedResponse(real.proxy());
+
+        buffered.setStatus(HttpServletResponse.SC_CREATED);
+        buffered.setHeader("ETag", "\"v1\"");
+        buffered.getWriter().write("partial");
+        buffered.reset();
+
+        assertEquals(HttpServletResponse.SC_OK, buffered.getStatus());
+        assertFalse(buffered.containsHeader("ETag"));
+        assertEquals(0, buffered.toByteArray().length);
+
+        buffered.applyTo(real.proxy());
+        assertNull(real.getHeader("ETag"));
+    }
+}
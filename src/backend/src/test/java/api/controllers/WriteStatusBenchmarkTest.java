@@ -0,0 +1,86 @@
+// java/api/controllers/WriteStatusBenchmarkTest.java
+package api.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import api.StubResponse;
+import benchmark.Bench;
+
+/**
+ * Compares {@link Controller#writeStatus(HttpServletResponse, int, String)},
+ * which streams the status envelope, against the previous implementation
+ * building a new {@link Gson} and {@link JsonObject} per call.
+ */
+class WriteStatusBenchmarkTest {
+
+    // --- Constants ---
+    private static final String MESSAGE = "Feat 42 not found - \"Great Weapon Master\"";
+
+    @Test
+    void writesSameEnvelopeAsTreePath() throws IOException {
+        for (int status : new int[] { HttpServletResponse.SC_OK, HttpServletResponse.SC_NOT_FOUND }) {
+            StubResponse streamed = new StubResponse();
+            Controller.writeStatus(streamed.proxy(), status, MESSAGE);
+
+            StubResponse tree = new StubResponse();
+            writeStatusTree(tree.proxy(), status, MESSAGE);
+
+            assertEquals(body(tree), body(streamed));
+            assertEquals(tree.getStatus(), streamed.getStatus());
+            assertEquals(tree.getContentType(), streamed.getContentType());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Bench.PROPERTY, matches = "true")
+    void benchmark() throws Exception {
+        StubResponse stub = new StubResponse();
+        HttpServletResponse resp = stub.proxy();
+
+        Bench.compare("writeStatus: new Gson + JsonObject -> streamed JsonWriter",
+            () -> {
+                stub.clear();
+                writeStatusTree(resp, HttpServletResponse.SC_NOT_FOUND, MESSAGE);
+                return stub.getBody();
+            },
+            () -> {
+                stub.clear();
+                Controller.writeStatus(resp, HttpServletResponse.SC_NOT_FOUND, MESSAGE);
+                return stub.getBody();
+            }
+        );
+    }
+
+    /**
+     * The status envelope as written before streaming was introduced.
+     */
+    private static void writeStatusTree(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        resp.setStatus(statusCode);
+
+        Gson gson = new Gson();
+        JsonObject json = new JsonObject();
+        json.addProperty("status", statusCode < 400 ? "success" : "failure");
+        json.addProperty("message", message);
+
+        resp.setContentType("application/json");
+        resp.getWriter().write(gson.toJson(json));
+    }
+
+    /**
+     * Utility method to read a stub response's body as text.
+     */
+    private static String body(StubResponse stub) {
+        return new String(stub.getBody(), StandardCharsets.UTF_8);
+    }
+}
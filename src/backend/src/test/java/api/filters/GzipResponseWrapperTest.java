@@ -0,0 +1,100 @@
+// java/api/filters/GzipResponseWrapperTest.java
+package api.filters;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import api.StubResponse;
+import api.json.JsonUtils;
+
+/**
+ * Encoding decisions of {@link GzipResponseWrapper} for json bodies written
+ * the way controllers write them.
+ */
+class GzipResponseWrapperTest {
+
+    @Test
+    void compressesMidSizedJsonDespiteWriterFlush() throws IOException {
+        List<String> items = new ArrayList<>();
+        while (JsonUtils.toJson(items).length() < 2048) { items.add("Darkvision " + items.size()); }
+        String json = JsonUtils.toJson(items);
+
+        StubResponse stub = new StubResponse();
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(stub.proxy(), CompressionFilter.MIN_SIZE);
+        // Flushes its writer once the value is written
+        JsonUtils.toJson(items, wrapper.getWriter());
+        wrapper.finish();
+
+        assertEquals("gzip", stub.getHeader("Content-Encoding"));
+        assertEquals(json, gunzip(stub.getBody()));
+    }
+
+    @Test
+    void sendsSmallJsonAsIs() throws IOException {
+        List<String> items = List.of("Common", "Dwarvish");
+
+        StubResponse stub = new StubResponse();
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(stub.proxy(), CompressionFilter.MIN_SIZE);
+        JsonUtils.toJson(items, wrapper.getWriter());
+        wrapper.finish();
+
+        byte[] expected = JsonUtils.toJson(items).getBytes(StandardCharsets.UTF_8);
+        assertNull(stub.getHeader("Content-Encoding"));
+        assertEquals(expected.length, stub.getContentLength());
+        assertArrayEquals(expected, stub.getBody());
+    }
+
+    @Test
+    void compressesFromExactlyMinSize() throws IOException {
+        String atMin = "x".repeat(CompressionFilter.MIN_SIZE);
+        StubResponse stub = new StubResponse();
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(stub.proxy(), CompressionFilter.MIN_SIZE);
+        wrapper.getWriter().write(atMin);
+        wrapper.finish();
+
+        assertEquals("gzip", stub.getHeader("Content-Encoding"));
+        assertEquals(atMin, gunzip(stub.getBody()));
+
+        // One byte less is sent as is, as by ResponseCache and AsyncExchange
+        StubResponse under = new StubResponse();
+        wrapper = new GzipResponseWrapper(under.proxy(), CompressionFilter.MIN_SIZE);
+        wrapper.getWriter().write(atMin.substring(1));
+        wrapper.finish();
+
+        assertNull(under.getHeader("Content-Encoding"));
+        assertEquals(CompressionFilter.MIN_SIZE - 1, under.getContentLength());
+    }
+
+    @Test
+    void sendsBodyAsIsOnExplicitFlushBuffer() throws IOException {
+        StubResponse stub = new StubResponse();
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(stub.proxy(), CompressionFilter.MIN_SIZE);
+        wrapper.getWriter().write("{\"status\":\"success\"}");
+        wrapper.flushBuffer();
+        wrapper.getWriter().write("x".repeat(2 * CompressionFilter.MIN_SIZE));
+        wrapper.finish();
+
+        assertNull(stub.getHeader("Content-Encoding"));
+        assertEquals("{\"status\":\"success\"}" + "x".repeat(2 * CompressionFilter.MIN_SIZE),
+            new String(stub.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Utility method to decompress a gzip body.
+     */
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+// java/api/json/CborBenchmarkTest.java
+package api.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import benchmark.Bench;
+import datasource.mappers.CatalogVersionMapper.Version;
+import domain.core.EntityId;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.Language;
+import domain.modifiers.proficiency.ArmourProficiency;
+import domain.modifiers.proficiency.Proficiency;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
+import domain.types.Ability;
+import domain.types.ArmourType;
+import domain.types.ProficiencyType;
+import domain.types.Skill;
+import domain.types.ToolType;
+import services.catalog.CatalogSnapshot;
+
+/**
+ * Checks {@link CborWriter} and {@link CborReader} round-trip every list a
+ * {@link CatalogSnapshot} serves, and compares payload size and encode/decode
+ * cost against Gson's json text.
+ */
+class CborBenchmarkTest {
+
+    // --- Constants ---
+    // Roughly the size of the SRD rules content, plus some homebrew
+    private static final int FEATS = 60;
+    private static final int LANGUAGES = 16;
+    private static final int TOOLS = 40;
+
+    private static final CatalogSnapshot SNAPSHOT = snapshot();
+
+    @Test
+    void roundTripsCatalogSnapshot() throws IOException {
+        assertRoundTrip(SNAPSHOT.getFeats(), Feat.class);
+        assertRoundTrip(SNAPSHOT.getFeatSummaries(), Feat.class);
+        assertRoundTrip(SNAPSHOT.getLanguages(), Language.class);
+        assertRoundTrip(SNAPSHOT.getAsms(), AbilityScoreModifier.class);
+        for (ProficiencyType type : ProficiencyType.values()) {
+            assertRoundTrip(SNAPSHOT.getProficiencies(type), Proficiency.class);
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Bench.PROPERTY, matches = "true")
+    void benchmark() throws Exception {
+        List<Feat> feats = SNAPSHOT.getFeats();
+        byte[] json = json(feats);
+        byte[] cbor = cbor(feats);
+        System.out.printf("Catalog feats payload%n  json   %8d bytes%n  cbor   %8d bytes (%.0f%%)%n",
+            json.length, cbor.length, 100.0 * cbor.length / json.length);
+
+        Bench.compare("Encode catalog feats: Gson json -> CBOR", () -> json(feats), () -> cbor(feats));
+
+        Bench.compare("Decode catalog feats: Gson json -> CBOR",
+            () -> JsonUtils.fromJson(new String(json, StandardCharsets.UTF_8), Feat[].class),
+            () -> JsonUtils.fromCbor(new ByteArrayInputStream(cbor), Feat[].class)
+        );
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to assert each element of a list, and the list as a
+     * whole, decode from CBOR to the same content as the original.
+     */
+    private static void assertRoundTrip(List<?> list, Class<?> classOfT) throws IOException {
+        String expected = JsonUtils.toJson(list);
+        List<Object> decoded = new ArrayList<>(list.size());
+        for (Object element : list) {
+            Object copy = JsonUtils.fromCbor(new ByteArrayInputStream(cbor(element)), classOfT);
+            assertEquals(JsonUtils.toJson(element), JsonUtils.toJson(copy));
+            decoded.add(copy);
+        }
+        assertEquals(expected, JsonUtils.toJson(decoded));
+
+        // Whole list, as served by the catalog endpoints
+        Class<?> arrayOfT = Array.newInstance(classOfT, 0).getClass();
+        assertEquals(expected, JsonUtils.toJson(JsonUtils.fromCbor(new ByteArrayInputStream(cbor(list)), arrayOfT)));
+    }
+
+    /**
+     * Utility method to encode an object as json text bytes.
+     */
+    private static byte[] json(Object src) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            JsonUtils.toJson(src, writer);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Utility method to encode an object as CBOR bytes.
+     */
+    private static byte[] cbor(Object src) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.toCbor(src, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Build a catalog snapshot of realistic size, linked like one read from
+     * the database.
+     */
+    private static CatalogSnapshot snapshot() {
+        long id = 1;
+
+        List<AbilityScoreModifier> asms = new ArrayList<>();
+        for (Ability ability : Ability.values()) {
+            for (int value = 1; value <= 2; value++) {
+                AbilityScoreModifier asm = new AbilityScoreModifier(ability, value);
+                asm.setId(new EntityId<>(id++));
+                asms.add(asm);
+            }
+        }
+
+        List<Language> languages = new ArrayList<>();
+        for (int i = 0; i < LANGUAGES; i++) {
+            Language language = new Language("Language " + i,
+                "Spoken by the peoples of region " + i + ", and by traders along its roads.",
+                "Script " + (i % 5), i % 3 == 0);
+            language.setId(new EntityId<>(id++));
+            languages.add(language);
+        }
+
+        Map<ProficiencyType, List<Proficiency>> proficiencies = new EnumMap<>(ProficiencyType.class);
+        List<Proficiency> armour = new ArrayList<>();
+        for (ArmourType type : ArmourType.values()) { armour.add(new ArmourProficiency(type)); }
+        List<Proficiency> skills = new ArrayList<>();
+        for (Skill skill : Skill.values()) { skills.add(new SkillProficiency(skill)); }
+        List<Proficiency> tools = new ArrayList<>();
+        ToolType[] toolTypes = ToolType.values();
+        for (int i = 0; i < TOOLS; i++) {
+            tools.add(new ToolProficiency("Tool " + i,
+                "Lets you add your proficiency bonus to any ability check made using tool " + i + ".",
+                toolTypes[i % toolTypes.length]));
+        }
+        proficiencies.put(ProficiencyType.ARMOUR, armour);
+        proficiencies.put(ProficiencyType.SKILL, skills);
+        proficiencies.put(ProficiencyType.TOOL, tools);
+        List<Proficiency> allProficiencies = new ArrayList<>();
+        for (List<Proficiency> list : proficiencies.values()) {
+            for (Proficiency proficiency : list) {
+                proficiency.setId(new EntityId<>(id++));
+                allProficiencies.add(proficiency);
+            }
+        }
+
+        List<Feat> feats = new ArrayList<>();
+        for (int i = 0; i < FEATS; i++) {
+            Feat feat = new Feat.Builder("Feat " + i,
+                    "You have trained extensively in discipline " + i + ", gaining the following benefits: "
+                    + "increase one ability score by 1, to a maximum of 20, and gain proficiency in a related skill.")
+                .abilityScoreModifiers(List.of(asms.get(i % asms.size())))
+                .proficiencies(List.of(
+                    allProficiencies.get(i % allProficiencies.size()),
+                    allProficiencies.get((i * 7 + 3) % allProficiencies.size())))
+                .build();
+            feat.setId(new EntityId<>(id++));
+            feats.add(feat);
+        }
+
+        return new CatalogSnapshot(feats, languages, asms, proficiencies, new Version(1, 1));
+    }
+}
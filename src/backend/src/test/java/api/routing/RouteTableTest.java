@@ -0,0 +1,77 @@
+// java/api/routing/RouteTableTest.java
+package api.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Matching precedence and failure outcomes of {@link RouteTable}.
+ */
+class RouteTableTest {
+
+    // --- Constants ---
+    private static final RouteHandler SEARCH = (params, req, resp) -> {};
+    private static final RouteHandler BY_ID = (params, req, resp) -> {};
+    private static final RouteHandler BY_TYPE = (params, req, resp) -> {};
+    private static final RouteHandler UPDATE = (params, req, resp) -> {};
+
+    private static final RouteTable TABLE = new RouteTable.Builder()
+        .get("/feat/{type}", BY_TYPE)
+        .get("/feat/{id:long}", BY_ID)
+        .put("/feat/{id:long}", UPDATE)
+        .get("/feat/search", SEARCH)
+        .build();
+
+    @Test
+    void literalWinsOverLongWinsOverString() {
+        assertSame(SEARCH, TABLE.match("GET", "/feat/search").handler());
+
+        RouteTable.Match byId = TABLE.match("GET", "/feat/42");
+        assertSame(BY_ID, byId.handler());
+        assertEquals(42L, byId.params().getLong("id"));
+
+        RouteTable.Match byType = TABLE.match("GET", "/feat/general");
+        assertSame(BY_TYPE, byType.handler());
+        assertEquals("general", byType.params().getString("type"));
+
+        // Trailing separator is ignored
+        assertSame(BY_ID, TABLE.match("GET", "/feat/42/").handler());
+    }
+
+    @Test
+    void unknownPathHasNoMatch() {
+        assertNull(TABLE.match("GET", "/spell/1"));
+        assertNull(TABLE.match("GET", "/feat/42/extra"));
+        assertNull(TABLE.match("GET", "/feat"));
+        assertNull(TABLE.match("GET", "feat/42"));
+    }
+
+    @Test
+    void knownPathWithWrongMethodListsAllowed() {
+        RouteTable.Match match = TABLE.match("POST", "/feat/42");
+        assertNotNull(match);
+        assertNull(match.handler());
+        assertEquals(Set.of("GET", "PUT"), match.allowed());
+    }
+
+    @Test
+    void nonLongSegmentsFallThroughLongParameter() {
+        // Signs and overflowing values are not longs - left to {type}
+        assertSame(BY_TYPE, TABLE.match("GET", "/feat/+5").handler());
+        assertSame(BY_TYPE, TABLE.match("GET", "/feat/9223372036854775808").handler());
+        assertSame(BY_ID, TABLE.match("GET", "/feat/9223372036854775807").handler());
+        assertSame(BY_ID, TABLE.match("GET", "/feat/-5").handler());
+
+        // Without one, nothing matches
+        RouteTable longOnly = new RouteTable.Builder().get("/feat/{id:long}", BY_ID).build();
+        assertNull(longOnly.match("GET", "/feat/+5"));
+        assertNull(longOnly.match("GET", "/feat/9223372036854775808"));
+        assertNull(longOnly.match("GET", "/feat/00000000000000000000001"));
+    }
+}
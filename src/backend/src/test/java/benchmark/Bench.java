@@ -0,0 +1,88 @@
+// java/benchmark/Bench.java
+package benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+/**
+ * Utility class timing small operations for the comparison benchmarks under
+ * {@code src/test/java}. Not a substitute for JMH, but steady enough to
+ * compare two implementations of the same thing side by side: both are warmed
+ * up together, then timed in alternating rounds, and the median round of each
+ * is reported - so neither is favoured by JIT or GC timing.
+ *
+ * <p> Benchmarks only run when requested, as they take a few seconds each:
+ * <pre>    mvn test -Dbenchmark=true</pre>
+ */
+public final class Bench {
+
+    // --- Constants ---
+    // System property enabling benchmark tests
+    public static final String PROPERTY = "benchmark";
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long ROUND_NANOS = 100_000_000L;
+    private static final int ROUNDS = 9;
+
+    // --- Attributes ---
+    // Results are stored here, so the JIT cannot discard the work timed
+    private static volatile Object sink;
+
+    // Private Constructor (disallow instantiation)
+    private Bench() {}
+
+    /**
+     * Time two implementations of an operation, printing the median cost of
+     * each and the speedup of {@code after} over {@code before}.
+     *
+     * @param title name of the comparison
+     * @param before baseline implementation - its result is consumed
+     * @param after replacement implementation - its result is consumed
+     * @return median nanoseconds per operation of {@code before} and
+     *         {@code after}, in that order
+     * @throws Exception if either operation fails
+     */
+    public static double[] compare(String title, Callable<?> before, Callable<?> after) throws Exception {
+        long[] batch = { 1, 1 };
+        Callable<?>[] ops = { before, after };
+
+        // Warm up, sizing batches so one round takes roughly ROUND_NANOS
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < WARMUP_NANOS) {
+            for (int i = 0; i < ops.length; i++) {
+                long elapsed = run(ops[i], batch[i]);
+                if (elapsed < ROUND_NANOS / 10) batch[i] *= 2;
+            }
+        }
+        for (int i = 0; i < ops.length; i++) {
+            batch[i] = Math.max(1, batch[i] * ROUND_NANOS / Math.max(1, run(ops[i], batch[i])));
+        }
+
+        double[][] rounds = new double[ops.length][ROUNDS];
+        for (int r = 0; r < ROUNDS; r++) {
+            for (int i = 0; i < ops.length; i++) { rounds[i][r] = (double) run(ops[i], batch[i]) / batch[i]; }
+        }
+
+        double[] medians = new double[ops.length];
+        for (int i = 0; i < ops.length; i++) {
+            Arrays.sort(rounds[i]);
+            medians[i] = rounds[i][ROUNDS / 2];
+        }
+        System.out.printf("%s%n  before %12.1f ns/op%n  after  %12.1f ns/op%n  speedup %11.2fx%n",
+            title, medians[0], medians[1], medians[0] / medians[1]);
+        return medians;
+    }
+
+    /**
+     * Utility method to run an operation a number of times.
+     *
+     * @return nanoseconds taken
+     */
+    private static long run(Callable<?> op, long times) throws Exception {
+        Object last = null;
+        long start = System.nanoTime();
+        for (long i = 0; i < times; i++) { last = op.call(); }
+        long elapsed = System.nanoTime() - start;
+        sink = last;
+        return elapsed;
+    }
+}
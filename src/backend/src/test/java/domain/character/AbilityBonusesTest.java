@@ -0,0 +1,145 @@
+// java/domain/character/AbilityBonusesTest.java
+package domain.character;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.LevelReward;
+import domain.modifiers.choice.ChoiceOption;
+import domain.templates.Background;
+import domain.templates.ClassTemplate;
+import domain.templates.Race;
+import domain.types.Ability;
+
+/**
+ * Cached {@link Character} ability totals, as selections are replaced, against
+ * totals recomputed from every selection.
+ */
+class AbilityBonusesTest {
+
+    // --- Constants ---
+    // Score of each ability before allocation
+    private static final int DEFAULT = 10;
+
+    @Test
+    void replacingSelectionChangesOnlyItsContribution() {
+        ClassTemplate fighter = classTemplate("Fighter", Ability.STRENGTH);
+        ClassSelection fighter3 = new ClassSelection(fighter, List.of(), 3);
+        ClassSelection wizard2 = new ClassSelection(classTemplate("Wizard", Ability.INTELLIGENCE), List.of(
+            ChoiceOption.of(new AbilityScoreModifier(Ability.WISDOM, 1))
+        ), 2);
+        Race dwarf = new Race.Builder("Dwarf", "Bold and hardy.")
+            .abilityScoreModifiers(List.of(new AbilityScoreModifier(Ability.CONSTITUTION, 2)))
+            .build();
+        Background sage = new Background.Builder("Sage", "Years spent learning.").build();
+        CharacterSelection<Race> race = new CharacterSelection<>(dwarf, List.of());
+        CharacterSelection<Background> sageInt = new CharacterSelection<>(sage, List.of(
+            ChoiceOption.of(new AbilityScoreModifier(Ability.INTELLIGENCE, 1))
+        ));
+
+        Character character = new Character.Builder("Tordek")
+            .level(5)
+            .raceSelection(race)
+            .backgroundSelection(sageInt)
+            .classSelection(fighter3)
+            .classSelection(wizard2)
+            .build();
+
+        Map<Ability, Integer> before = character.getAbilities();
+        assertEquals(recompute(race, sageInt, fighter3, wizard2), before);
+        assertEquals(DEFAULT + 2, before.get(Ability.CONSTITUTION));
+        // Background choice, and the wizard's level 2 reward
+        assertEquals(DEFAULT + 2, before.get(Ability.INTELLIGENCE));
+
+        // A class selection at a new level - only its level 4 reward is added
+        ClassSelection fighter4 = new ClassSelection(fighter, List.of(), 4);
+        assertTrue(character.replaceClassSelection(fighter3, fighter4));
+        assertChanged(before, character.getAbilities(), Map.of(Ability.STRENGTH, 1));
+        assertEquals(recompute(race, sageInt, fighter4, wizard2), character.getAbilities());
+
+        // Removing the race drops only its bonus
+        before = character.getAbilities();
+        character.setRaceSelection(null);
+        assertChanged(before, character.getAbilities(), Map.of(Ability.CONSTITUTION, -2));
+        assertEquals(recompute(null, sageInt, fighter4, wizard2), character.getAbilities());
+
+        // A background with a different choice swaps only its bonus
+        before = character.getAbilities();
+        CharacterSelection<Background> sageDex = new CharacterSelection<>(sage, List.of(
+            ChoiceOption.of(new AbilityScoreModifier(Ability.DEXTERITY, 1))
+        ));
+        character.setBackgroundSelection(sageDex);
+        assertChanged(before, character.getAbilities(), Map.of(Ability.INTELLIGENCE, -1, Ability.DEXTERITY, 1));
+        assertEquals(recompute(null, sageDex, fighter4, wizard2), character.getAbilities());
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to assert that only the passed abilities changed, each
+     * by its delta.
+     */
+    private static void assertChanged(
+        Map<Ability, Integer> before, Map<Ability, Integer> after, Map<Ability, Integer> deltas
+    ) {
+        for (Ability ability : Ability.values()) {
+            int expected = before.get(ability) + deltas.getOrDefault(ability, 0);
+            assertEquals(expected, after.get(ability), ability.toString());
+        }
+    }
+
+    /**
+     * Utility method to total abilities from scratch - the default allocated
+     * scores plus every modifier of the passed selections, including the
+     * level rewards each class selection has reached.
+     */
+    private static Map<Ability, Integer> recompute(
+        CharacterModifier race, CharacterModifier background, ClassSelection... classes
+    ) {
+        Map<Ability, Integer> totals = new EnumMap<>(Ability.class);
+        for (Ability ability : Ability.values()) { totals.put(ability, DEFAULT); }
+
+        if (race != null) add(totals, race);
+        if (background != null) add(totals, background);
+        for (ClassSelection selection : classes) {
+            add(totals, selection);
+            for (LevelReward reward : selection.getTemplate().getAllLevelRewards()) {
+                if (reward.getLevel() <= selection.getLevel()) add(totals, reward);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Utility method to add a modifier's ability score changes to totals.
+     */
+    private static void add(Map<Ability, Integer> totals, CharacterModifier modifier) {
+        for (AbilityScoreModifier asm : modifier.getAbilityScoreModifiers()) {
+            totals.merge(asm.getAbility(), asm.getValue(), Integer::sum);
+        }
+    }
+
+    /**
+     * Utility method to build a class raising its primary ability at every
+     * even level.
+     */
+    private static ClassTemplate classTemplate(String name, Ability primary) {
+        ClassTemplate.Builder builder = new ClassTemplate.Builder(name, "The " + name + " class.");
+        for (int level = 1; level <= 4; level++) {
+            List<CharacterModifier> rewards = level % 2 == 0
+                ? List.of(ChoiceOption.of(new AbilityScoreModifier(primary, 1)))
+                : List.of();
+            builder.levelReward(new LevelReward(level, rewards));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,167 @@
+// java/domain/character/CharacterModifiersBenchmarkTest.java
+package domain.character;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import benchmark.Bench;
+import domain.modifiers.AbilityScoreModifier;
+import domain.modifiers.Feat;
+import domain.modifiers.LevelReward;
+import domain.modifiers.choice.ChoiceOption;
+import domain.modifiers.proficiency.SkillProficiency;
+import domain.modifiers.proficiency.ToolProficiency;
+import domain.templates.ClassTemplate;
+import domain.types.Ability;
+import domain.types.Skill;
+
+/**
+ * Compares reading every modifier of a level 20 multiclass character - its
+ * {@link ClassSelection}s and the {@link LevelReward}s they have reached -
+ * with modifiers flattened once on construction, against the previous
+ * implementation flattening them with streams on every getter call.
+ */
+class CharacterModifiersBenchmarkTest {
+
+    // --- Constants ---
+    private static final int MAX_LEVEL = 20;
+    private static final List<ClassSelection> SELECTIONS = selections();
+
+    // The four flattened modifier getters
+    private static final List<Function<CharacterModifier, List<?>>> GETTERS = List.of(
+        CharacterModifier::getLanguages,
+        CharacterModifier::getProficiencies,
+        CharacterModifier::getFeats,
+        CharacterModifier::getAbilityScoreModifiers
+    );
+
+    @Test
+    void readsSameModifiersAsStreams() {
+        for (ClassSelection selection : SELECTIONS) {
+            for (Function<CharacterModifier, List<?>> getter : GETTERS) {
+                assertEquals(streamed(selection, getter), getter.apply(selection));
+                for (LevelReward reward : selection.getTemplate().getLesserLevelRewards(selection.getLevel())) {
+                    assertEquals(streamed(reward, getter), getter.apply(reward));
+                }
+            }
+        }
+        assertEquals(readStreamed(), readPrecomputed());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Bench.PROPERTY, matches = "true")
+    void benchmark() throws Exception {
+        Bench.compare("Level 20 multiclass character modifiers: stream per get -> precomputed",
+            CharacterModifiersBenchmarkTest::readStreamed,
+            CharacterModifiersBenchmarkTest::readPrecomputed
+        );
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Read every modifier of the character through the current getters.
+     *
+     * @return number of modifiers read
+     */
+    private static int readPrecomputed() {
+        int count = 0;
+        for (ClassSelection selection : SELECTIONS) {
+            for (Function<CharacterModifier, List<?>> getter : GETTERS) {
+                count += getter.apply(selection).size();
+                for (LevelReward reward : selection.getTemplate().getLesserLevelRewards(selection.getLevel())) {
+                    count += getter.apply(reward).size();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Read every modifier of the character as the getters did before.
+     *
+     * @return number of modifiers read
+     */
+    private static int readStreamed() {
+        int count = 0;
+        for (ClassSelection selection : SELECTIONS) {
+            for (Function<CharacterModifier, List<?>> getter : GETTERS) {
+                count += streamed(selection, getter).size();
+                for (LevelReward reward : selection.getTemplate().getLesserLevelRewards(selection.getLevel())) {
+                    count += streamed(reward, getter).size();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The previous {@code CharacterSelection} getters - template and choice
+     * modifiers joined on every call.
+     */
+    private static List<?> streamed(CharacterSelection<?> selection, Function<CharacterModifier, List<?>> getter) {
+        return Stream.<Object>concat(
+            getter.apply(selection.getTemplate()).stream(),
+            selection.getChoices().stream().<Object>flatMap(c -> getter.apply(c).stream())
+        ).toList();
+    }
+
+    /**
+     * The previous {@code LevelReward} getters - reward modifiers joined on
+     * every call.
+     */
+    private static List<?> streamed(LevelReward reward, Function<CharacterModifier, List<?>> getter) {
+        return reward.getRewards().stream().<Object>flatMap(c -> getter.apply(c).stream()).toList();
+    }
+
+    /**
+     * Build a fighter (champion) 12 / wizard 8 - a reward at every level of
+     * each class, and the choices made on selecting them.
+     */
+    private static List<ClassSelection> selections() {
+        ClassTemplate fighter = classTemplate("Fighter", Ability.STRENGTH, null);
+        ClassTemplate champion = classTemplate("Champion", Ability.DEXTERITY, fighter);
+        ClassTemplate wizard = classTemplate("Wizard", Ability.INTELLIGENCE, null);
+
+        return List.of(
+            new ClassSelection(champion, List.of(
+                ChoiceOption.of(new SkillProficiency(Skill.ATHLETICS)),
+                ChoiceOption.of(new SkillProficiency(Skill.PERCEPTION)),
+                ChoiceOption.of(new AbilityScoreModifier(Ability.STRENGTH, 2))
+            ), 12),
+            new ClassSelection(wizard, List.of(
+                ChoiceOption.of(new SkillProficiency(Skill.ARCANA)),
+                ChoiceOption.of(new SkillProficiency(Skill.HISTORY))
+            ), 8)
+        );
+    }
+
+    /**
+     * Utility method to build a class with a reward at each level: a tool
+     * proficiency, an ability score increase every fourth level, and a feat
+     * every sixth.
+     */
+    private static ClassTemplate classTemplate(String name, Ability primary, ClassTemplate parent) {
+        ClassTemplate.Builder builder = new ClassTemplate.Builder(name, "The " + name + " class.");
+        if (parent != null) builder.parentClass(parent);
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            List<CharacterModifier> rewards = new ArrayList<>();
+            rewards.add(ChoiceOption.of(new ToolProficiency(name + " tool " + level, "A tool of the trade.")));
+            if (level % 4 == 0) rewards.add(ChoiceOption.of(new AbilityScoreModifier(primary, 1)));
+            if (level % 6 == 0) rewards.add(new Feat.Builder(name + " feat " + level, "A class feat.")
+                .abilityScoreModifiers(List.of(new AbilityScoreModifier(primary, 1)))
+                .build());
+            builder.levelReward(new LevelReward(level, rewards));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,116 @@
+// java/domain/core/DetailSetBenchmarkTest.java
+package domain.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import benchmark.Bench;
+
+/**
+ * Compares {@link DetailSet}, kept sorted on insert behind a cached view,
+ * against the previous implementation draining a copied {@link PriorityQueue}
+ * on every read.
+ */
+class DetailSetBenchmarkTest {
+
+    // --- Constants ---
+    // Details per template: a background, a race, and a class at level 20
+    private static final int[] DETAIL_COUNTS = { 5, 10, 30 };
+    // Template reads per build - e.g. a list view, a detail view and toString
+    private static final int READS = 3;
+
+    @Test
+    void readsSameOrderAsQueue() {
+        for (int count : DETAIL_COUNTS) {
+            List<Detail> details = details(count);
+            DetailSet set = new DetailSet(details);
+            assertEquals(new QueueDetailSet(details).getDetails(), set.getDetails());
+
+            // One at a time, as the template builders add them
+            DetailSet added = new DetailSet();
+            QueueDetailSet queue = new QueueDetailSet();
+            for (Detail detail : details) {
+                added.add(detail);
+                queue.add(detail);
+            }
+            assertEquals(queue.getDetails(), added.getDetails());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = Bench.PROPERTY, matches = "true")
+    void benchmark() throws Exception {
+        for (int count : DETAIL_COUNTS) {
+            List<Detail> details = details(count);
+            DetailSet set = new DetailSet(details);
+            QueueDetailSet queue = new QueueDetailSet(details);
+
+            Bench.compare("DetailSet.getDetails, " + count + " details: PriorityQueue drain -> cached view",
+                queue::getDetails, set::getDetails);
+
+            Bench.compare("DetailSet build + " + READS + " reads, " + count + " details: PriorityQueue -> sorted list",
+                () -> {
+                    QueueDetailSet built = new QueueDetailSet();
+                    for (Detail detail : details) { built.add(detail); }
+                    List<Detail> last = null;
+                    for (int i = 0; i < READS; i++) { last = built.getDetails(); }
+                    return last;
+                },
+                () -> {
+                    DetailSet built = new DetailSet();
+                    for (Detail detail : details) { built.add(detail); }
+                    List<Detail> last = null;
+                    for (int i = 0; i < READS; i++) { last = built.getDetails(); }
+                    return last;
+                }
+            );
+        }
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to create distinct details, a few sharing each order,
+     * in shuffled (database read) order.
+     */
+    private static List<Detail> details(int count) {
+        List<Detail> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            details.add(new Detail("Feature " + i,
+                "At level " + (i + 1) + ", you gain the benefits of feature " + i + ".", i / 3));
+        }
+        Collections.shuffle(details, new Random(count));
+        return details;
+    }
+
+    /**
+     * The detail set as implemented before it was kept sorted on insert.
+     */
+    private static class QueueDetailSet {
+
+        // --- Attributes ---
+        private final PriorityQueue<Detail> details;
+
+        QueueDetailSet() { this.details = new PriorityQueue<>(); }
+        QueueDetailSet(List<Detail> details) { this.details = new PriorityQueue<>(details); }
+
+        void add(Detail detail) { this.details.add(detail); }
+
+        List<Detail> getDetails() {
+            List<Detail> list = new ArrayList<>(details.size());
+            PriorityQueue<Detail> copy = new PriorityQueue<>(details);
+            while (!copy.isEmpty()) { list.add(copy.poll()); }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+// java/domain/templates/ClassTemplateTest.java
+package domain.templates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import domain.character.CharacterModifier;
+import domain.modifiers.LevelReward;
+
+/**
+ * {@link ClassTemplate} level reward lookups over a subclass chain, against
+ * the previous implementation filtering and sorting a stream on every call.
+ */
+class ClassTemplateTest {
+
+    // --- Attributes ---
+    // Rewards each template was built with, not including its parent's
+    private final Map<ClassTemplate, List<LevelReward>> own = new IdentityHashMap<>();
+
+    @Test
+    void readsSameRewardsAsStreams() {
+        // Shared levels across the chain, level 0, and levels beyond 20
+        ClassTemplate base = classTemplate("Fighter", null, 0, 1, 2, 3, 5, 11, 20);
+        ClassTemplate sub = classTemplate("Champion", base, 1, 3, 7, 20, 22);
+        ClassTemplate subsub = classTemplate("Gladiator", sub, 3, 15, 25);
+        ClassTemplate empty = classTemplate("Commoner", null);
+
+        for (ClassTemplate template : List.of(base, sub, subsub, empty)) {
+            assertSameRewards(streamed(template, reward -> true), template.getAllLevelRewards());
+            for (int level = -1; level <= 27; level++) {
+                int l = level;
+                assertSameRewards(streamed(template, reward -> reward.getLevel() == l),
+                    template.getLevelReward(level));
+                assertSameRewards(streamed(template, reward -> reward.getLevel() <= l),
+                    template.getLesserLevelRewards(level));
+            }
+        }
+
+        // Rewards sharing a level keep the subclass' ahead of its parents'
+        List<LevelReward> third = subsub.getLevelReward(3);
+        assertEquals(3, third.size());
+        assertSame(own.get(subsub).get(0), third.get(0));
+        assertSame(own.get(sub).get(1), third.get(1));
+        assertSame(own.get(base).get(3), third.get(2));
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to assert two lists hold the same rewards, in order.
+     */
+    private static void assertSameRewards(List<LevelReward> expected, List<LevelReward> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) { assertSame(expected.get(i), actual.get(i)); }
+    }
+
+    /**
+     * The previous lookup - this class' and the parent pathway's rewards,
+     * filtered and sorted on every call.
+     */
+    private List<LevelReward> streamed(ClassTemplate template, Predicate<LevelReward> filter) {
+        return stream(template, filter).sorted().toList();
+    }
+
+    /**
+     * Utility method to stream filtered rewards of a class, then its parents.
+     */
+    private Stream<LevelReward> stream(ClassTemplate template, Predicate<LevelReward> filter) {
+        return Stream.concat(
+            own.get(template).stream().filter(filter),
+            template.getParentClass() != null ? stream(template.getParentClass(), filter) : Stream.empty()
+        );
+    }
+
+    /**
+     * Utility method to build a class with an (empty) reward at each passed
+     * level.
+     */
+    private ClassTemplate classTemplate(String name, ClassTemplate parent, int... levels) {
+        ClassTemplate.Builder builder = new ClassTemplate.Builder(name, "The " + name + " class.");
+        if (parent != null) builder.parentClass(parent);
+
+        List<LevelReward> rewards = new ArrayList<>();
+        for (int level : levels) {
+            LevelReward reward = new LevelReward(level, List.<CharacterModifier>of());
+            rewards.add(reward);
+            builder.levelReward(reward);
+        }
+        ClassTemplate template = builder.build();
+        own.put(template, rewards);
+        return template;
+    }
+}
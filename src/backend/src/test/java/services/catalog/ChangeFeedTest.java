@@ -0,0 +1,95 @@
+// java/services/catalog/ChangeFeedTest.java
+package services.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import domain.core.EntityId;
+import domain.modifiers.Language;
+
+class ChangeFeedTest {
+
+    // --- Constants ---
+    private static final int MAX_REPLAY = 8;
+
+    @Test
+    void replaysChangesWithinLimit() {
+        String last = latestEventId();
+        publish(MAX_REPLAY);
+
+        Recorder recorder = new Recorder();
+        ChangeFeed.subscribe(last, MAX_REPLAY, recorder);
+        ChangeFeed.unsubscribe(recorder);
+
+        assertEquals(MAX_REPLAY, recorder.changes.size());
+        assertEquals(0, recorder.resets);
+    }
+
+    @Test
+    void resetsInsteadOfReplayingBeyondLimit() {
+        String last = latestEventId();
+        publish(MAX_REPLAY + 1);
+
+        Recorder recorder = new Recorder();
+        ChangeFeed.subscribe(last, MAX_REPLAY, recorder);
+        ChangeFeed.unsubscribe(recorder);
+
+        assertEquals(0, recorder.changes.size());
+        assertEquals(1, recorder.resets);
+    }
+
+    /* ======================================================================
+     * -------------------------- Private  Methods --------------------------
+     * ====================================================================== */
+
+    /**
+     * Utility method to read the ID of the latest event, via the reset sent
+     * to a subscriber without one.
+     */
+    private static String latestEventId() {
+        Recorder recorder = new Recorder();
+        ChangeFeed.subscribe(null, MAX_REPLAY, recorder);
+        ChangeFeed.unsubscribe(recorder);
+        return recorder.lastEventId;
+    }
+
+    /**
+     * Utility method to publish a number of language updates.
+     */
+    private static void publish(int count) {
+        List<Object> updated = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Language language = new Language("Language " + i, "Spoken somewhere.", "Script");
+            language.setId(new EntityId<>(i + 1));
+            updated.add(language);
+        }
+        ChangeFeed.publish(List.of(), updated, List.of());
+    }
+
+    /**
+     * Subscriber recording what it receives.
+     */
+    private static class Recorder implements ChangeFeed.Subscriber {
+
+        // --- Attributes ---
+        private final List<ChangeFeed.Change> changes = new ArrayList<>();
+        private int resets;
+        private String lastEventId;
+
+        @Override
+        public void onChange(String eventId, ChangeFeed.Change change) {
+            changes.add(change);
+            lastEventId = eventId;
+        }
+
+        @Override
+        public void onReset(String eventId) {
+            resets++;
+            lastEventId = eventId;
+        }
+    }
+}